@@ -1,10 +1,19 @@
 package DataStructuresAndAlgorithms;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+
 /**
  * This class implements an AVL Tree.
  * AVL Tree is a self-balancing Binary Search Tree (BST) 
  * where the difference between heights of left and right subtrees 
  * cannot be more than one for all nodes.
+ * Every node also records the size of its subtree, which supports
+ * order-statistic queries (rank and select) in logarithmic time.
  */
 public class AVLTree {
 
@@ -14,6 +23,7 @@ public class AVLTree {
     private class AVLNode {
         private int value;  // Value stored in the node
         private int height;  // Height of the node from the leaf
+        private int size;  // Number of nodes in the subtree rooted at this node
         private AVLNode leftChild;  // Left child of the node
         private AVLNode rightChild;  // Right child of the node
 
@@ -25,6 +35,7 @@ public class AVLTree {
         public AVLNode(int value) {
             this.value = value;
             this.height = 0;
+            this.size = 1;
         }
 
         @Override
@@ -62,10 +73,429 @@ public class AVLTree {
         }
 
         setHeight(root);
+        setSize(root);
+
+        return balance(root);
+    }
+
+    /**
+     * Searches for a value in the AVL Tree.
+     *
+     * @param value the value to search for
+     * @return true if the value is found, false otherwise
+     */
+    public boolean contains(int value) {
+        var current = root;
+        while (current != null) {
+            if (value < current.value) {
+                current = current.leftChild;
+            } else if (value > current.value) {
+                current = current.rightChild;
+            } else {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Deletes one occurrence of a value from the AVL Tree, rebalancing on the
+     * way back up.
+     *
+     * @param value the value to delete
+     * @return true if the value was found and deleted, false otherwise
+     */
+    public boolean delete(int value) {
+        if (!contains(value))
+            return false;
+
+        root = delete(root, value);
+        return true;
+    }
+
+    /**
+     * Recursive helper method to delete a value from the AVL Tree.
+     * The value must be present in the tree/sub-tree.
+     *
+     * @param root the root of the tree/sub-tree
+     * @param value the value to delete
+     * @return the root of the tree/sub-tree
+     */
+    private AVLNode delete(AVLNode root, int value) {
+        if (value < root.value) {
+            root.leftChild = delete(root.leftChild, value);
+        } else if (value > root.value) {
+            root.rightChild = delete(root.rightChild, value);
+        } else {
+            if (root.leftChild == null)
+                return root.rightChild;
+            if (root.rightChild == null)
+                return root.leftChild;
+
+            // Take the successor's value and remove the successor instead
+            var successor = root.rightChild;
+            while (successor.leftChild != null)
+                successor = successor.leftChild;
+
+            root.value = successor.value;
+            root.rightChild = deleteMin(root.rightChild);
+        }
+
+        setHeight(root);
+        setSize(root);
 
         return balance(root);
     }
 
+    /**
+     * Recursive helper method to delete the smallest node of a sub-tree.
+     *
+     * @param root the root of the sub-tree
+     * @return the root of the sub-tree
+     */
+    private AVLNode deleteMin(AVLNode root) {
+        if (root.leftChild == null)
+            return root.rightChild;
+
+        root.leftChild = deleteMin(root.leftChild);
+
+        setHeight(root);
+        setSize(root);
+
+        return balance(root);
+    }
+
+    /**
+     * Returns the number of values in the AVL Tree.
+     *
+     * @return the number of values
+     */
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * Returns the greatest value less than or equal to the given value.
+     *
+     * @param value the value to search for
+     * @return the greatest value in the tree that is not above the given value
+     * @throws NoSuchElementException if every value in the tree is greater
+     */
+    public int floor(int value) {
+        AVLNode best = null;
+        var current = root;
+        while (current != null) {
+            if (current.value > value) {
+                current = current.leftChild;
+            } else {
+                best = current;
+                current = current.rightChild;
+            }
+        }
+
+        if (best == null)
+            throw new NoSuchElementException();
+
+        return best.value;
+    }
+
+    /**
+     * Returns the smallest value greater than or equal to the given value.
+     *
+     * @param value the value to search for
+     * @return the smallest value in the tree that is not below the given value
+     * @throws NoSuchElementException if every value in the tree is smaller
+     */
+    public int ceiling(int value) {
+        AVLNode best = null;
+        var current = root;
+        while (current != null) {
+            if (current.value < value) {
+                current = current.rightChild;
+            } else {
+                best = current;
+                current = current.leftChild;
+            }
+        }
+
+        if (best == null)
+            throw new NoSuchElementException();
+
+        return best.value;
+    }
+
+    /**
+     * Returns the number of values in the tree strictly less than the given
+     * value.
+     *
+     * @param value the value to rank
+     * @return the number of smaller values
+     */
+    public int rank(int value) {
+        var rank = 0;
+        var current = root;
+        while (current != null) {
+            if (current.value < value) {
+                rank += size(current.leftChild) + 1;
+                current = current.rightChild;
+            } else {
+                current = current.leftChild;
+            }
+        }
+
+        return rank;
+    }
+
+    /**
+     * Returns the value at the given position in ascending order.
+     *
+     * @param index the zero-based position of the value
+     * @return the value with exactly {@code index} values before it
+     * @throws IllegalArgumentException if the index is negative or not less than
+     *                                  the size of the tree
+     */
+    public int select(int index) {
+        if (index < 0 || index >= size())
+            throw new IllegalArgumentException();
+
+        var current = root;
+        while (true) {
+            var leftSize = size(current.leftChild);
+            if (index < leftSize) {
+                current = current.leftChild;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                current = current.rightChild;
+            } else {
+                return current.value;
+            }
+        }
+    }
+
+    /**
+     * Passes every value between lo and hi (inclusive) to the consumer, in
+     * ascending order, skipping sub-trees that lie outside the range.
+     *
+     * @param lo       the lower bound of the range
+     * @param hi       the upper bound of the range
+     * @param consumer the consumer of the values
+     */
+    public void rangeScan(int lo, int hi, IntConsumer consumer) {
+        rangeScan(root, lo, hi, consumer);
+    }
+
+    /**
+     * Recursive helper method to scan a range of a sub-tree in order.
+     *
+     * @param root     the root of the sub-tree
+     * @param lo       the lower bound of the range
+     * @param hi       the upper bound of the range
+     * @param consumer the consumer of the values
+     */
+    private void rangeScan(AVLNode root, int lo, int hi, IntConsumer consumer) {
+        if (root == null)
+            return;
+
+        if (lo <= root.value)
+            rangeScan(root.leftChild, lo, hi, consumer);
+        if (lo <= root.value && root.value <= hi)
+            consumer.accept(root.value);
+        if (root.value <= hi)
+            rangeScan(root.rightChild, lo, hi, consumer);
+    }
+
+    /**
+     * Builds a perfectly balanced AVL Tree from values in ascending order,
+     * in linear time and without any rotation.
+     *
+     * @param values the values, sorted in ascending order
+     * @return a tree holding all the values
+     * @throws IllegalArgumentException if the values are not sorted
+     */
+    public static AVLTree fromSorted(int[] values) {
+        for (var i = 1; i < values.length; i++) {
+            if (values[i - 1] > values[i])
+                throw new IllegalArgumentException("Values must be sorted.");
+        }
+
+        var tree = new AVLTree();
+        tree.root = tree.build(values, 0, values.length - 1);
+
+        return tree;
+    }
+
+    /**
+     * Recursive helper method to build a balanced sub-tree from a sorted range.
+     *
+     * @param values the sorted values
+     * @param lo     the first index of the range
+     * @param hi     the last index of the range
+     * @return the root of the sub-tree, or null if the range is empty
+     */
+    private AVLNode build(int[] values, int lo, int hi) {
+        if (lo > hi)
+            return null;
+
+        var middle = (lo + hi) >>> 1;
+        var node = new AVLNode(values[middle]);
+        node.leftChild = build(values, lo, middle - 1);
+        node.rightChild = build(values, middle + 1, hi);
+
+        setHeight(node);
+        setSize(node);
+
+        return node;
+    }
+
+    /**
+     * Saves the tree in the compact pre-order format read by {@link TreeImage},
+     * so later processes can query it from a memory-mapped file instead of
+     * rebuilding it.
+     *
+     * @param file the file to write, replaced if it exists
+     * @throws IOException if the file can't be written
+     */
+    public void writeTo(Path file) throws IOException {
+        try (var writer = new TreeImage.Writer(file, size(root))) {
+            if (root == null)
+                return;
+
+            // Each stack entry pairs a node with the parent whose right child it is, or -1
+            var nodes = new ArrayDeque<AVLNode>();
+            var parents = new int[16];
+            nodes.push(root);
+            parents[0] = -1;
+
+            while (!nodes.isEmpty()) {
+                var parent = parents[nodes.size() - 1];
+                var node = nodes.pop();
+                var index = writer.add(node.value, node.leftChild != null);
+                if (parent >= 0)
+                    writer.setRight(parent, index);
+
+                // The left child is pushed last so it is written next
+                if (node.rightChild != null)
+                    parents = push(nodes, parents, node.rightChild, index);
+                if (node.leftChild != null)
+                    parents = push(nodes, parents, node.leftChild, -1);
+            }
+        }
+    }
+
+    /**
+     * Pushes a node and its parent entry onto the pre-order stack of
+     * {@link #writeTo(Path)}.
+     *
+     * @param nodes   the stack of nodes
+     * @param parents the parent entry of each stacked node
+     * @param node    the node to push
+     * @param parent  the index of the parent whose right child it is, or -1
+     * @return the parent entries, grown if needed
+     */
+    private static int[] push(ArrayDeque<AVLNode> nodes, int[] parents, AVLNode node, int parent) {
+        if (nodes.size() == parents.length)
+            parents = Arrays.copyOf(parents, parents.length * 2);
+
+        parents[nodes.size()] = parent;
+        nodes.push(node);
+
+        return parents;
+    }
+
+    /**
+     * Moves every value of another tree into this one, keeping duplicates.
+     * The trees are combined with split and join operations, which reuse the
+     * existing nodes and cost O(m log(n/m + 1)) for trees of sizes m and n
+     * instead of m separate insertions. The other tree is left empty.
+     *
+     * @param other the tree whose values are moved into this tree
+     */
+    public void merge(AVLTree other) {
+        if (other == this)
+            throw new IllegalArgumentException("Can't merge a tree with itself.");
+
+        // Split the larger tree around the nodes of the smaller one
+        root = (size(root) <= size(other.root)) ? union(root, other.root) : union(other.root, root);
+        other.root = null;
+    }
+
+    /**
+     * Recursive helper method to combine two sub-trees into one.
+     *
+     * @param first  the sub-tree whose nodes become split points
+     * @param second the sub-tree that is split
+     * @return the root of the combined sub-tree
+     */
+    private AVLNode union(AVLNode first, AVLNode second) {
+        if (first == null)
+            return second;
+        if (second == null)
+            return first;
+
+        var parts = split(second, first.value);
+        var left = union(first.leftChild, parts[0]);
+        var right = union(first.rightChild, parts[1]);
+
+        return join(left, first, right);
+    }
+
+    /**
+     * Splits a sub-tree into the values less than a key and the values
+     * greater than or equal to it.
+     *
+     * @param root the root of the sub-tree
+     * @param key  the value to split around
+     * @return the two resulting sub-trees, less than the key first
+     */
+    private AVLNode[] split(AVLNode root, int key) {
+        if (root == null)
+            return new AVLNode[2];
+
+        if (root.value < key) {
+            var parts = split(root.rightChild, key);
+            parts[0] = join(root.leftChild, root, parts[0]);
+            return parts;
+        }
+
+        var parts = split(root.leftChild, key);
+        parts[1] = join(parts[1], root, root.rightChild);
+        return parts;
+    }
+
+    /**
+     * Joins two sub-trees and a middle node into one balanced sub-tree.
+     * Every value of the left sub-tree must not exceed the middle value, and
+     * every value of the right sub-tree must not be below it.
+     *
+     * @param left   the left sub-tree
+     * @param middle the node placed between the two sub-trees
+     * @param right  the right sub-tree
+     * @return the root of the joined sub-tree
+     */
+    private AVLNode join(AVLNode left, AVLNode middle, AVLNode right) {
+        if (height(left) > height(right) + 1) {
+            left.rightChild = join(left.rightChild, middle, right);
+            setHeight(left);
+            setSize(left);
+            return balance(left);
+        }
+
+        if (height(right) > height(left) + 1) {
+            right.leftChild = join(left, middle, right.leftChild);
+            setHeight(right);
+            setSize(right);
+            return balance(right);
+        }
+
+        middle.leftChild = left;
+        middle.rightChild = right;
+        setHeight(middle);
+        setSize(middle);
+
+        return middle;
+    }
+
     /**
      * Balances the AVL Tree from the given root node.
      *
@@ -104,6 +534,8 @@ public class AVLTree {
 
         setHeight(root);
         setHeight(newRoot);
+        setSize(root);
+        setSize(newRoot);
 
         return newRoot;
     }
@@ -122,6 +554,8 @@ public class AVLTree {
 
         setHeight(root);
         setHeight(newRoot);
+        setSize(root);
+        setSize(newRoot);
 
         return newRoot;
     }
@@ -135,6 +569,26 @@ public class AVLTree {
         node.height = Math.max(height(node.leftChild), height(node.rightChild)) + 1;
     }
 
+    /**
+     * Sets the subtree size of the given node based on its children's sizes.
+     *
+     * @param node the node whose size is to be set
+     */
+    private void setSize(AVLNode node) {
+        node.size = size(node.leftChild) + size(node.rightChild) + 1;
+    }
+
+    /**
+     * Returns the subtree size of the given node.
+     *
+     * @param node the node whose size is to be returned
+     * @return the number of nodes under and including the node, or 0 if the
+     *         node is null
+     */
+    private int size(AVLNode node) {
+        return (node == null) ? 0 : node.size;
+    }
+
     /**
      * Returns the height of the given node.
      *
@@ -186,5 +640,25 @@ public class AVLTree {
         tree.insert(10);
         tree.insert(20);
         tree.insert(30);
+        tree.insert(40);
+        tree.insert(50);
+
+        System.out.println(tree.contains(30)); // Output: true
+        System.out.println(tree.floor(35)); // Output: 30
+        System.out.println(tree.ceiling(35)); // Output: 40
+        System.out.println(tree.rank(35)); // Output: 3
+        System.out.println(tree.select(0)); // Output: 10
+
+        System.out.println(tree.delete(30)); // Output: true
+        System.out.println(tree.delete(30)); // Output: false
+        System.out.println(tree.size()); // Output: 4
+
+        tree.rangeScan(15, 45, System.out::println); // Output: 20 40
+
+        var other = AVLTree.fromSorted(new int[] { 5, 20, 25, 60 });
+        tree.merge(other);
+        System.out.println(tree.size()); // Output: 8
+        System.out.println(tree.select(3)); // Output: 20
+        System.out.println(other.size()); // Output: 0
     }
 }
@@ -0,0 +1,367 @@
+package DataStructuresAndAlgorithms;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * This class implements an AVL Tree stored in parallel int arrays.
+ * Instead of one {@code AVLNode} object per value, as in {@link AVLTree}, a
+ * node is an index into the value, height, left and right arrays. Freed
+ * indexes are kept on a free-list and reused, and insertion, deletion and
+ * rebalancing run iteratively over a fixed path buffer, so once the arrays
+ * have grown to the working size the tree allocates nothing.
+ */
+public class ArrayAVLTree {
+    private static final int NIL = 0; // Index of the sentinel standing in for null
+    private static final int MAX_HEIGHT = 64; // More levels than any AVL tree of int-indexed nodes
+    private static final int DEFAULT_CAPACITY = 16; // Nodes allocated for a new tree
+    private static final byte LEFT = 0; // The path went to the left child
+    private static final byte RIGHT = 1; // The path went to the right child
+
+    private int[] values; // Value stored in each node
+    private int[] heights; // Height of each node from the leaf; -1 for the sentinel
+    private int[] leftChildren; // Left child of each node; next free index for free nodes
+    private int[] rightChildren; // Right child of each node
+    private int root = NIL; // Root of the AVL Tree
+    private int size; // The number of values in the tree
+    private int freeList = NIL; // First index on the free-list
+    private int nextUnused = 1; // First index never handed out
+
+    private final int[] path = new int[MAX_HEIGHT]; // Nodes visited by the current operation
+    private final byte[] directions = new byte[MAX_HEIGHT]; // Side taken below each visited node
+
+    /**
+     * Constructs an empty tree.
+     */
+    public ArrayAVLTree() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty tree able to hold the given number of values before
+     * its arrays grow.
+     *
+     * @param capacity the number of values expected
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public ArrayAVLTree(int capacity) {
+        if (capacity < 0)
+            throw new IllegalArgumentException("Capacity can't be negative.");
+
+        values = new int[capacity + 1];
+        heights = new int[capacity + 1];
+        leftChildren = new int[capacity + 1];
+        rightChildren = new int[capacity + 1];
+        heights[NIL] = -1;
+    }
+
+    /**
+     * Inserts a new value into the AVL Tree.
+     *
+     * @param value the value to insert
+     */
+    public void insert(int value) {
+        var depth = 0;
+        var node = root;
+        while (node != NIL) {
+            path[depth] = node;
+            if (value < values[node]) {
+                directions[depth++] = LEFT;
+                node = leftChildren[node];
+            } else {
+                directions[depth++] = RIGHT;
+                node = rightChildren[node];
+            }
+        }
+
+        var newNode = allocate(value);
+        size++;
+        rebalancePath(depth, newNode);
+    }
+
+    /**
+     * Searches for a value in the AVL Tree.
+     *
+     * @param value the value to search for
+     * @return true if the value is found, false otherwise
+     */
+    public boolean contains(int value) {
+        var node = root;
+        while (node != NIL) {
+            if (value < values[node])
+                node = leftChildren[node];
+            else if (value > values[node])
+                node = rightChildren[node];
+            else
+                return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Deletes one occurrence of a value from the AVL Tree.
+     *
+     * @param value the value to delete
+     * @return true if the value was found and deleted, false otherwise
+     */
+    public boolean delete(int value) {
+        var depth = 0;
+        var node = root;
+        while (node != NIL && values[node] != value) {
+            path[depth] = node;
+            if (value < values[node]) {
+                directions[depth++] = LEFT;
+                node = leftChildren[node];
+            } else {
+                directions[depth++] = RIGHT;
+                node = rightChildren[node];
+            }
+        }
+
+        if (node == NIL)
+            return false;
+
+        // A node with two children takes its successor's value instead
+        if (leftChildren[node] != NIL && rightChildren[node] != NIL) {
+            path[depth] = node;
+            directions[depth++] = RIGHT;
+            var successor = rightChildren[node];
+            while (leftChildren[successor] != NIL) {
+                path[depth] = successor;
+                directions[depth++] = LEFT;
+                successor = leftChildren[successor];
+            }
+
+            values[node] = values[successor];
+            node = successor;
+        }
+
+        var child = (leftChildren[node] != NIL) ? leftChildren[node] : rightChildren[node];
+        release(node);
+        size--;
+        rebalancePath(depth, child);
+
+        return true;
+    }
+
+    /**
+     * Returns the number of values in the tree.
+     *
+     * @return the number of values
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the height of the tree.
+     *
+     * @return the height of the tree, or -1 if it is empty
+     */
+    public int height() {
+        return heights[root];
+    }
+
+    /**
+     * Passes every value in the tree to the consumer, in ascending order.
+     *
+     * @param consumer the consumer of the values
+     */
+    public void forEachInOrder(IntConsumer consumer) {
+        var stack = new int[MAX_HEIGHT];
+        var top = 0;
+        var node = root;
+        while (node != NIL || top > 0) {
+            while (node != NIL) {
+                stack[top++] = node;
+                node = leftChildren[node];
+            }
+
+            node = stack[--top];
+            consumer.accept(values[node]);
+            node = rightChildren[node];
+        }
+    }
+
+    /**
+     * Walks back up the recorded path after an insertion or deletion,
+     * attaching the changed subtree, updating heights and rebalancing each
+     * node on the way to the root.
+     *
+     * @param depth the number of nodes on the path
+     * @param child the new root of the subtree below the last path node
+     */
+    private void rebalancePath(int depth, int child) {
+        for (var i = depth - 1; i >= 0; i--) {
+            var parent = path[i];
+            if (directions[i] == LEFT)
+                leftChildren[parent] = child;
+            else
+                rightChildren[parent] = child;
+
+            setHeight(parent);
+            child = balance(parent);
+        }
+
+        root = child;
+    }
+
+    /**
+     * Balances the AVL Tree from the given root node.
+     *
+     * @param node the root of the tree/sub-tree
+     * @return the balanced root of the tree/sub-tree
+     */
+    private int balance(int node) {
+        var factor = balanceFactor(node);
+        if (factor > 1) {
+            if (balanceFactor(leftChildren[node]) < 0)
+                leftChildren[node] = rotateLeft(leftChildren[node]);
+
+            return rotateRight(node);
+
+        } else if (factor < -1) {
+            if (balanceFactor(rightChildren[node]) > 0)
+                rightChildren[node] = rotateRight(rightChildren[node]);
+
+            return rotateLeft(node);
+        }
+
+        return node;
+    }
+
+    /**
+     * Rotates the given root node to the left.
+     *
+     * @param node the root of the tree/sub-tree
+     * @return the new root after rotation
+     */
+    private int rotateLeft(int node) {
+        var newRoot = rightChildren[node];
+
+        rightChildren[node] = leftChildren[newRoot];
+        leftChildren[newRoot] = node;
+
+        setHeight(node);
+        setHeight(newRoot);
+
+        return newRoot;
+    }
+
+    /**
+     * Rotates the given root node to the right.
+     *
+     * @param node the root of the tree/sub-tree
+     * @return the new root after rotation
+     */
+    private int rotateRight(int node) {
+        var newRoot = leftChildren[node];
+
+        leftChildren[node] = rightChildren[newRoot];
+        rightChildren[newRoot] = node;
+
+        setHeight(node);
+        setHeight(newRoot);
+
+        return newRoot;
+    }
+
+    /**
+     * Sets the height of the given node based on its children's heights.
+     *
+     * @param node the node whose height is to be set
+     */
+    private void setHeight(int node) {
+        heights[node] = Math.max(heights[leftChildren[node]], heights[rightChildren[node]]) + 1;
+    }
+
+    /**
+     * Returns the balance factor of the given node.
+     *
+     * @param node the node whose balance factor is to be returned
+     * @return the balance factor of the node, or 0 for the sentinel
+     */
+    private int balanceFactor(int node) {
+        return (node == NIL) ? 0 : heights[leftChildren[node]] - heights[rightChildren[node]];
+    }
+
+    /**
+     * Returns a node index holding the given value, reusing a freed index if
+     * there is one and growing the arrays otherwise.
+     *
+     * @param value the value to store in the node
+     * @return the index of the new node
+     */
+    private int allocate(int value) {
+        int node;
+        if (freeList != NIL) {
+            node = freeList;
+            freeList = leftChildren[node];
+        } else {
+            if (nextUnused == values.length)
+                grow();
+            node = nextUnused++;
+        }
+
+        values[node] = value;
+        heights[node] = 0;
+        leftChildren[node] = NIL;
+        rightChildren[node] = NIL;
+
+        return node;
+    }
+
+    /**
+     * Puts a node index back on the free-list.
+     *
+     * @param node the index of the node being removed
+     */
+    private void release(int node) {
+        leftChildren[node] = freeList;
+        freeList = node;
+    }
+
+    /**
+     * Doubles the length of the node arrays.
+     */
+    private void grow() {
+        var capacity = Math.max(values.length * 2, DEFAULT_CAPACITY);
+        if (capacity < 0)
+            throw new IllegalStateException("Tree is full.");
+
+        values = Arrays.copyOf(values, capacity);
+        heights = Arrays.copyOf(heights, capacity);
+        leftChildren = Arrays.copyOf(leftChildren, capacity);
+        rightChildren = Arrays.copyOf(rightChildren, capacity);
+    }
+
+    /**
+     * Main method to test the ArrayAVLTree implementation.
+     *
+     * @param args command line arguments
+     */
+    public static void main(String[] args) {
+        var tree = new ArrayAVLTree();
+
+        // Ascending input would degenerate an unbalanced tree into a list
+        for (var i = 1; i <= 1_000; i++)
+            tree.insert(i * 10);
+
+        System.out.println(tree.size()); // Output: 1000
+        System.out.println(tree.height()); // Output: 9
+        System.out.println(tree.contains(500)); // Output: true
+        System.out.println(tree.contains(505)); // Output: false
+
+        for (var i = 1; i <= 1_000; i += 2)
+            tree.delete(i * 10);
+
+        System.out.println(tree.size()); // Output: 500
+        System.out.println(tree.contains(10)); // Output: false
+        System.out.println(tree.delete(10)); // Output: false
+
+        var sum = new long[1];
+        tree.forEachInOrder(value -> sum[0] += value);
+        System.out.println(sum[0]); // Output: 2505000
+    }
+}
@@ -0,0 +1,598 @@
+package DataStructuresAndAlgorithms;
+
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+
+/**
+ * This class implements a B+ Tree, an ordered set of integers with a high
+ * fan-out.
+ * Each node holds up to a fixed number of keys in a sorted int array, sized
+ * so that a node spans a few cache lines, and is searched with a branch-free
+ * binary search. Values live only in the leaves, which are linked to their
+ * neighbours so that range scans walk the leaves sequentially. Compared to
+ * the binary fan-out of {@link AVLTree} and {@link BinaryTree}, a lookup
+ * touches far fewer nodes once the tree no longer fits in cache.
+ * Like {@link LockFreeSkipList}, the tree holds each value at most once.
+ */
+public class BPlusTree {
+    private static final int DEFAULT_NODE_SIZE = 64; // Keys per node: 256 bytes, four cache lines
+
+    /**
+     * This class represents a node of the tree: a sorted run of keys.
+     */
+    private abstract static class Node {
+        protected final int[] keys; // The sorted keys, with room for one extra before a split
+        protected int count; // The number of keys in use
+
+        /**
+         * Constructs an empty node able to hold the given number of keys.
+         *
+         * @param maxKeys the maximum number of keys
+         */
+        protected Node(int maxKeys) {
+            keys = new int[maxKeys + 1];
+        }
+    }
+
+    /**
+     * This class represents a leaf, which holds the values of the set.
+     */
+    private static final class Leaf extends Node {
+        private Leaf previous; // The leaf holding the next smaller values
+        private Leaf next; // The leaf holding the next larger values
+
+        /**
+         * Constructs an empty leaf.
+         *
+         * @param maxKeys the maximum number of keys
+         */
+        public Leaf(int maxKeys) {
+            super(maxKeys);
+        }
+    }
+
+    /**
+     * This class represents an inner node. Key i separates child i, holding
+     * smaller values, from child i + 1, holding values at least as large.
+     */
+    private static final class Inner extends Node {
+        private final Node[] children; // The sub-trees, one more than the keys
+
+        /**
+         * Constructs an empty inner node.
+         *
+         * @param maxKeys the maximum number of keys
+         */
+        public Inner(int maxKeys) {
+            super(maxKeys);
+            children = new Node[maxKeys + 2];
+        }
+    }
+
+    private final int maxKeys; // The maximum number of keys per node
+    private final int minKeys; // The minimum number of keys per non-root node
+    private Node root; // Root of the tree
+    private int size; // The number of values in the tree
+    private int height; // The number of inner levels above the leaves
+
+    private int splitKey; // Separator produced by the most recent split
+
+    /**
+     * Constructs an empty tree with the default node size.
+     */
+    public BPlusTree() {
+        this(DEFAULT_NODE_SIZE);
+    }
+
+    /**
+     * Constructs an empty tree whose nodes hold up to the given number of keys.
+     *
+     * @param maxKeys the maximum number of keys per node, at least 4
+     * @throws IllegalArgumentException if the node size is too small
+     */
+    public BPlusTree(int maxKeys) {
+        if (maxKeys < 4)
+            throw new IllegalArgumentException("Nodes must hold at least 4 keys.");
+
+        this.maxKeys = maxKeys;
+        this.minKeys = maxKeys / 2;
+        this.root = new Leaf(maxKeys);
+    }
+
+    /**
+     * Returns the number of keys in the node that are less than the given key,
+     * using a binary search whose loop has no data-dependent branch.
+     *
+     * @param keys  the sorted keys
+     * @param count the number of keys in use
+     * @param key   the key to search for
+     * @return the index of the first key not less than the given key
+     */
+    private static int lowerBound(int[] keys, int count, int key) {
+        if (count == 0)
+            return 0;
+
+        var base = 0;
+        var length = count;
+        while (length > 1) {
+            var half = length >>> 1;
+            base = (keys[base + half - 1] < key) ? base + half : base;
+            length -= half;
+        }
+
+        return base + ((keys[base] < key) ? 1 : 0);
+    }
+
+    /**
+     * Returns the number of keys in the node that are not greater than the
+     * given key, using a binary search whose loop has no data-dependent branch.
+     *
+     * @param keys  the sorted keys
+     * @param count the number of keys in use
+     * @param key   the key to search for
+     * @return the index of the first key greater than the given key
+     */
+    private static int upperBound(int[] keys, int count, int key) {
+        if (count == 0)
+            return 0;
+
+        var base = 0;
+        var length = count;
+        while (length > 1) {
+            var half = length >>> 1;
+            base = (keys[base + half - 1] <= key) ? base + half : base;
+            length -= half;
+        }
+
+        return base + ((keys[base] <= key) ? 1 : 0);
+    }
+
+    /**
+     * Returns the leaf whose key range covers the given key.
+     *
+     * @param key the key to search for
+     * @return the leaf that holds the key if it is present
+     */
+    private Leaf findLeaf(int key) {
+        var node = root;
+        while (node instanceof Inner) {
+            var inner = (Inner) node;
+            node = inner.children[upperBound(inner.keys, inner.count, key)];
+        }
+
+        return (Leaf) node;
+    }
+
+    /**
+     * Searches for a value in the tree.
+     *
+     * @param value the value to search for
+     * @return true if the value is found, false otherwise
+     */
+    public boolean contains(int value) {
+        var leaf = findLeaf(value);
+        var index = lowerBound(leaf.keys, leaf.count, value);
+
+        return index < leaf.count && leaf.keys[index] == value;
+    }
+
+    /**
+     * Inserts a value into the tree.
+     *
+     * @param value the value to insert
+     * @return true if the value was added, false if it was already present
+     */
+    public boolean insert(int value) {
+        var sizeBefore = size;
+        var sibling = insert(root, value);
+
+        // The root split: grow the tree by one level
+        if (sibling != null) {
+            var newRoot = new Inner(maxKeys);
+            newRoot.keys[0] = splitKey;
+            newRoot.children[0] = root;
+            newRoot.children[1] = sibling;
+            newRoot.count = 1;
+            root = newRoot;
+            height++;
+        }
+
+        return size > sizeBefore;
+    }
+
+    /**
+     * Recursive helper method to insert a value into a sub-tree.
+     * If the node overflows it is split, the new right sibling is returned and
+     * the separator is left in {@link #splitKey}.
+     *
+     * @param node  the root of the sub-tree
+     * @param value the value to insert
+     * @return the new right sibling if the node split, or null
+     */
+    private Node insert(Node node, int value) {
+        if (node instanceof Leaf) {
+            var leaf = (Leaf) node;
+            var index = lowerBound(leaf.keys, leaf.count, value);
+            if (index < leaf.count && leaf.keys[index] == value)
+                return null;
+
+            insertAt(leaf.keys, leaf.count, index, value);
+            leaf.count++;
+            size++;
+
+            return (leaf.count > maxKeys) ? splitLeaf(leaf) : null;
+        }
+
+        var inner = (Inner) node;
+        var index = upperBound(inner.keys, inner.count, value);
+        var sibling = insert(inner.children[index], value);
+        if (sibling == null)
+            return null;
+
+        insertAt(inner.keys, inner.count, index, splitKey);
+        insertAt(inner.children, inner.count + 1, index + 1, sibling);
+        inner.count++;
+
+        return (inner.count > maxKeys) ? splitInner(inner) : null;
+    }
+
+    /**
+     * Moves the upper half of an overfull leaf into a new right sibling.
+     *
+     * @param leaf the overfull leaf
+     * @return the new sibling
+     */
+    private Leaf splitLeaf(Leaf leaf) {
+        var sibling = new Leaf(maxKeys);
+        var half = leaf.count / 2;
+
+        sibling.count = leaf.count - half;
+        System.arraycopy(leaf.keys, half, sibling.keys, 0, sibling.count);
+        leaf.count = half;
+
+        sibling.next = leaf.next;
+        sibling.previous = leaf;
+        if (leaf.next != null)
+            leaf.next.previous = sibling;
+        leaf.next = sibling;
+
+        splitKey = sibling.keys[0];
+        return sibling;
+    }
+
+    /**
+     * Moves the upper half of an overfull inner node into a new right sibling,
+     * pushing the middle key up as the separator.
+     *
+     * @param inner the overfull inner node
+     * @return the new sibling
+     */
+    private Inner splitInner(Inner inner) {
+        var sibling = new Inner(maxKeys);
+        var half = inner.count / 2;
+
+        splitKey = inner.keys[half];
+        sibling.count = inner.count - half - 1;
+        System.arraycopy(inner.keys, half + 1, sibling.keys, 0, sibling.count);
+        System.arraycopy(inner.children, half + 1, sibling.children, 0, sibling.count + 1);
+        for (var i = half + 1; i <= inner.count; i++)
+            inner.children[i] = null;
+        inner.count = half;
+
+        return sibling;
+    }
+
+    /**
+     * Deletes a value from the tree, borrowing from or merging with sibling
+     * nodes that fall below half full.
+     *
+     * @param value the value to delete
+     * @return true if the value was found and deleted, false otherwise
+     */
+    public boolean delete(int value) {
+        if (!delete(root, value))
+            return false;
+
+        // An inner root left with a single child is removed
+        if (root instanceof Inner && root.count == 0) {
+            root = ((Inner) root).children[0];
+            height--;
+        }
+
+        return true;
+    }
+
+    /**
+     * Recursive helper method to delete a value from a sub-tree.
+     *
+     * @param node  the root of the sub-tree
+     * @param value the value to delete
+     * @return true if the value was found and deleted, false otherwise
+     */
+    private boolean delete(Node node, int value) {
+        if (node instanceof Leaf) {
+            var index = lowerBound(node.keys, node.count, value);
+            if (index == node.count || node.keys[index] != value)
+                return false;
+
+            removeAt(node.keys, node.count, index);
+            node.count--;
+            size--;
+            return true;
+        }
+
+        var inner = (Inner) node;
+        var index = upperBound(inner.keys, inner.count, value);
+        var child = inner.children[index];
+        if (!delete(child, value))
+            return false;
+
+        if (child.count < minKeys)
+            fixUnderflow(inner, index);
+
+        return true;
+    }
+
+    /**
+     * Restores the minimum fill of a child by borrowing a key from a sibling
+     * with keys to spare, or by merging it with a sibling otherwise.
+     *
+     * @param parent the parent of the underfull child
+     * @param index  the position of the child in its parent
+     */
+    private void fixUnderflow(Inner parent, int index) {
+        var child = parent.children[index];
+        var left = (index > 0) ? parent.children[index - 1] : null;
+        var right = (index < parent.count) ? parent.children[index + 1] : null;
+
+        if (left != null && left.count > minKeys) {
+            borrowFromLeft(parent, index, left, child);
+        } else if (right != null && right.count > minKeys) {
+            borrowFromRight(parent, index, child, right);
+        } else if (left != null) {
+            merge(parent, index - 1, left, child);
+        } else {
+            merge(parent, index, child, right);
+        }
+    }
+
+    /**
+     * Moves the last key of the left sibling into the front of the child.
+     *
+     * @param parent the common parent
+     * @param index  the position of the child in its parent
+     * @param left   the left sibling
+     * @param child  the underfull child
+     */
+    private void borrowFromLeft(Inner parent, int index, Node left, Node child) {
+        if (child instanceof Leaf) {
+            insertAt(child.keys, child.count, 0, left.keys[left.count - 1]);
+            parent.keys[index - 1] = child.keys[0];
+        } else {
+            var innerChild = (Inner) child;
+            var innerLeft = (Inner) left;
+            insertAt(child.keys, child.count, 0, parent.keys[index - 1]);
+            insertAt(innerChild.children, child.count + 1, 0, innerLeft.children[left.count]);
+            innerLeft.children[left.count] = null;
+            parent.keys[index - 1] = left.keys[left.count - 1];
+        }
+
+        child.count++;
+        left.count--;
+    }
+
+    /**
+     * Moves the first key of the right sibling onto the end of the child.
+     *
+     * @param parent the common parent
+     * @param index  the position of the child in its parent
+     * @param child  the underfull child
+     * @param right  the right sibling
+     */
+    private void borrowFromRight(Inner parent, int index, Node child, Node right) {
+        if (child instanceof Leaf) {
+            child.keys[child.count] = right.keys[0];
+            removeAt(right.keys, right.count, 0);
+            parent.keys[index] = right.keys[0];
+        } else {
+            var innerChild = (Inner) child;
+            var innerRight = (Inner) right;
+            child.keys[child.count] = parent.keys[index];
+            innerChild.children[child.count + 1] = innerRight.children[0];
+            parent.keys[index] = right.keys[0];
+            removeAt(right.keys, right.count, 0);
+            removeAt(innerRight.children, right.count + 1, 0);
+        }
+
+        child.count++;
+        right.count--;
+    }
+
+    /**
+     * Appends the right node to the left node and removes the right node and
+     * their separator from the parent.
+     *
+     * @param parent the common parent
+     * @param index  the position of the left node in its parent
+     * @param left   the node that absorbs its sibling
+     * @param right  the node being absorbed
+     */
+    private void merge(Inner parent, int index, Node left, Node right) {
+        if (left instanceof Leaf) {
+            System.arraycopy(right.keys, 0, left.keys, left.count, right.count);
+            left.count += right.count;
+
+            var leftLeaf = (Leaf) left;
+            var rightLeaf = (Leaf) right;
+            leftLeaf.next = rightLeaf.next;
+            if (rightLeaf.next != null)
+                rightLeaf.next.previous = leftLeaf;
+        } else {
+            left.keys[left.count] = parent.keys[index];
+            System.arraycopy(right.keys, 0, left.keys, left.count + 1, right.count);
+            System.arraycopy(((Inner) right).children, 0, ((Inner) left).children, left.count + 1, right.count + 1);
+            left.count += right.count + 1;
+        }
+
+        removeAt(parent.keys, parent.count, index);
+        removeAt(parent.children, parent.count + 1, index + 1);
+        parent.count--;
+    }
+
+    /**
+     * Returns the greatest value less than or equal to the given value.
+     *
+     * @param value the value to search for
+     * @return the greatest value in the tree that is not above the given value
+     * @throws NoSuchElementException if every value in the tree is greater
+     */
+    public int floor(int value) {
+        var leaf = findLeaf(value);
+        var index = upperBound(leaf.keys, leaf.count, value) - 1;
+        if (index >= 0)
+            return leaf.keys[index];
+
+        if (leaf.previous == null)
+            throw new NoSuchElementException();
+
+        return leaf.previous.keys[leaf.previous.count - 1];
+    }
+
+    /**
+     * Returns the smallest value greater than or equal to the given value.
+     *
+     * @param value the value to search for
+     * @return the smallest value in the tree that is not below the given value
+     * @throws NoSuchElementException if every value in the tree is smaller
+     */
+    public int ceiling(int value) {
+        var leaf = findLeaf(value);
+        var index = lowerBound(leaf.keys, leaf.count, value);
+        if (index < leaf.count)
+            return leaf.keys[index];
+
+        if (leaf.next == null)
+            throw new NoSuchElementException();
+
+        return leaf.next.keys[0];
+    }
+
+    /**
+     * Passes every value between lo and hi (inclusive) to the consumer, in
+     * ascending order, walking the linked leaves.
+     *
+     * @param lo       the lower bound of the range
+     * @param hi       the upper bound of the range
+     * @param consumer the consumer of the values
+     */
+    public void rangeScan(int lo, int hi, IntConsumer consumer) {
+        var leaf = findLeaf(lo);
+        var index = lowerBound(leaf.keys, leaf.count, lo);
+
+        while (leaf != null) {
+            for (; index < leaf.count; index++) {
+                if (leaf.keys[index] > hi)
+                    return;
+                consumer.accept(leaf.keys[index]);
+            }
+
+            leaf = leaf.next;
+            index = 0;
+        }
+    }
+
+    /**
+     * Returns the number of values in the tree.
+     *
+     * @return the number of values
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the height of the tree.
+     *
+     * @return the number of levels above the leaves
+     */
+    public int height() {
+        return height;
+    }
+
+    /**
+     * Shifts the elements from the given index one place right and stores a
+     * value in the gap.
+     *
+     * @param array the array to insert into
+     * @param count the number of elements in use
+     * @param index the position of the new element
+     * @param value the value to insert
+     */
+    private static void insertAt(int[] array, int count, int index, int value) {
+        System.arraycopy(array, index, array, index + 1, count - index);
+        array[index] = value;
+    }
+
+    /**
+     * Shifts the elements from the given index one place right and stores a
+     * node in the gap.
+     *
+     * @param array the array to insert into
+     * @param count the number of elements in use
+     * @param index the position of the new element
+     * @param node  the node to insert
+     */
+    private static void insertAt(Node[] array, int count, int index, Node node) {
+        System.arraycopy(array, index, array, index + 1, count - index);
+        array[index] = node;
+    }
+
+    /**
+     * Removes the element at the given index by shifting later elements left.
+     *
+     * @param array the array to remove from
+     * @param count the number of elements in use
+     * @param index the position of the element to remove
+     */
+    private static void removeAt(int[] array, int count, int index) {
+        System.arraycopy(array, index + 1, array, index, count - index - 1);
+    }
+
+    /**
+     * Removes the node at the given index by shifting later nodes left.
+     *
+     * @param array the array to remove from
+     * @param count the number of elements in use
+     * @param index the position of the element to remove
+     */
+    private static void removeAt(Node[] array, int count, int index) {
+        System.arraycopy(array, index + 1, array, index, count - index - 1);
+        array[count - 1] = null;
+    }
+
+    /**
+     * Main method to test the BPlusTree implementation.
+     *
+     * @param args command line arguments
+     */
+    public static void main(String[] args) {
+        var tree = new BPlusTree(4);
+
+        for (var i = 1; i <= 20; i++)
+            tree.insert(i * 10);
+
+        System.out.println(tree.insert(50)); // Output: false
+        System.out.println(tree.contains(50)); // Output: true
+        System.out.println(tree.height()); // Output: 2
+        System.out.println(tree.floor(55)); // Output: 50
+        System.out.println(tree.ceiling(55)); // Output: 60
+
+        for (var i = 1; i <= 20; i += 2)
+            tree.delete(i * 10);
+
+        System.out.println(tree.size()); // Output: 10
+        System.out.println(tree.contains(50)); // Output: false
+
+        tree.rangeScan(35, 95, System.out::println); // Output: 40 60 80
+    }
+}
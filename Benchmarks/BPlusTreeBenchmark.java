@@ -0,0 +1,147 @@
+package DataStructuresAndAlgorithms.Benchmarks;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import DataStructuresAndAlgorithms.AVLTree;
+import DataStructuresAndAlgorithms.BPlusTree;
+
+/**
+ * This class measures the single-threaded cost of {@link BPlusTree} against
+ * {@link AVLTree} as the number of keys grows past what the caches can hold.
+ * For each size it times building the tree from keys in random order, point
+ * lookups of which half hit, and short range scans.
+ * The largest sizes need a large heap, e.g. -Xmx16g for 100,000,000 keys.
+ */
+public class BPlusTreeBenchmark {
+    private static final int LOOKUPS = 2_000_000; // Point lookups timed per tree
+    private static final int SCANS = 200_000; // Range scans timed per tree
+    private static final int SCAN_WIDTH = 1 << 20; // Width of each scanned key range
+
+    /**
+     * This interface abstracts the ordered-set operations being measured.
+     */
+    private interface Target {
+        void insert(int value);
+
+        boolean contains(int value);
+
+        void rangeScan(int lo, int hi, long[] sink);
+    }
+
+    /**
+     * Returns the i-th key: a bijection of the int range, so keys are distinct
+     * and arrive in no particular order.
+     *
+     * @param i the position of the key
+     * @return the key
+     */
+    private static int key(int i) {
+        return i * 0x9E3779B9;
+    }
+
+    /**
+     * Builds the target from the given number of keys, then times lookups and
+     * scans, printing the cost per operation.
+     *
+     * @param name   the name printed for the target
+     * @param target the empty set under test
+     * @param size   the number of keys to insert
+     */
+    private static void run(String name, Target target, int size) {
+        var start = System.nanoTime();
+        for (var i = 0; i < size; i++)
+            target.insert(key(i));
+        var insertNanos = (System.nanoTime() - start) / (double) size;
+
+        var random = ThreadLocalRandom.current();
+        var hits = 0;
+        start = System.nanoTime();
+        for (var i = 0; i < LOOKUPS; i++) {
+            // Even draws look up a present key, odd ones a random, most likely absent, one
+            var value = ((i & 1) == 0) ? key(random.nextInt(size)) : random.nextInt();
+            if (target.contains(value))
+                hits++;
+        }
+        var lookupNanos = (System.nanoTime() - start) / (double) LOOKUPS;
+
+        var sink = new long[1];
+        start = System.nanoTime();
+        for (var i = 0; i < SCANS; i++) {
+            var lo = random.nextInt(Integer.MAX_VALUE - SCAN_WIDTH);
+            target.rangeScan(lo, lo + SCAN_WIDTH, sink);
+        }
+        var scanNanos = (System.nanoTime() - start) / (double) SCANS;
+
+        System.out.printf("%12d %-10s %12.1f %12.1f %12.1f %10d%n", size, name, insertNanos, lookupNanos, scanNanos, hits);
+    }
+
+    /**
+     * Returns an empty AVLTree.
+     *
+     * @return the tree
+     */
+    private static Target avlTree() {
+        var tree = new AVLTree();
+
+        return new Target() {
+            @Override
+            public void insert(int value) {
+                tree.insert(value);
+            }
+
+            @Override
+            public boolean contains(int value) {
+                return tree.contains(value);
+            }
+
+            @Override
+            public void rangeScan(int lo, int hi, long[] sink) {
+                tree.rangeScan(lo, hi, value -> sink[0] += value);
+            }
+        };
+    }
+
+    /**
+     * Returns an empty BPlusTree.
+     *
+     * @return the tree
+     */
+    private static Target bPlusTree() {
+        var tree = new BPlusTree();
+
+        return new Target() {
+            @Override
+            public void insert(int value) {
+                tree.insert(value);
+            }
+
+            @Override
+            public boolean contains(int value) {
+                return tree.contains(value);
+            }
+
+            @Override
+            public void rangeScan(int lo, int hi, long[] sink) {
+                tree.rangeScan(lo, hi, value -> sink[0] += value);
+            }
+        };
+    }
+
+    /**
+     * Main method to run the benchmark.
+     *
+     * @param args the numbers of keys to measure (default: 1000000 10000000)
+     */
+    public static void main(String[] args) {
+        var sizes = args.length == 0 ? new int[] { 1_000_000, 10_000_000 } : new int[args.length];
+        for (var i = 0; i < args.length; i++)
+            sizes[i] = Integer.parseInt(args[i]);
+
+        System.out.printf("%12s %-10s %12s %12s %12s %10s%n", "keys", "tree", "insert ns", "lookup ns", "scan ns",
+                "hits");
+        for (var size : sizes) {
+            run("AVLTree", avlTree(), size);
+            run("BPlusTree", bPlusTree(), size);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package DataStructuresAndAlgorithms.Benchmarks;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import DataStructuresAndAlgorithms.ConcurrentPriorityQueue;
+import DataStructuresAndAlgorithms.HeapPriorityQueue;
+
+/**
+ * This class measures the multi-threaded throughput of
+ * {@link ConcurrentPriorityQueue}, in strict and relaxed mode, against a
+ * {@link HeapPriorityQueue} guarded by a single global lock.
+ * Every thread alternates adding a random item and removing one for a fixed
+ * amount of time, so the queue stays at its prefilled size.
+ */
+public class ConcurrentPriorityQueueBenchmark {
+    private static final int PREFILL = 100_000; // Items in the queue when a measurement starts
+    private static final long DURATION_MILLIS = 2_000; // Length of each measurement
+
+    /**
+     * This interface abstracts the queue operations being measured.
+     */
+    private interface Target {
+        void add(int item);
+
+        int remove();
+    }
+
+    /**
+     * Runs the workload against the given target with the given number of
+     * threads.
+     *
+     * @param target  the queue under test
+     * @param threads the number of worker threads
+     * @return the throughput in operations per second
+     * @throws InterruptedException if interrupted while waiting for workers
+     */
+    private static double run(Target target, int threads) throws InterruptedException {
+        var random = ThreadLocalRandom.current();
+        for (var i = 0; i < PREFILL; i++)
+            target.add(random.nextInt());
+
+        var operations = new LongAdder();
+        var start = new CountDownLatch(1);
+        var deadline = new long[1];
+        var workers = new Thread[threads];
+
+        for (var t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                var workerRandom = ThreadLocalRandom.current();
+                var done = 0L;
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                while (System.nanoTime() < deadline[0]) {
+                    for (var i = 0; i < 1_000; i++) {
+                        target.add(workerRandom.nextInt());
+                        target.remove();
+                    }
+                    done += 2_000;
+                }
+                operations.add(done);
+            });
+            workers[t].start();
+        }
+
+        deadline[0] = System.nanoTime() + DURATION_MILLIS * 1_000_000;
+        start.countDown();
+        for (var worker : workers)
+            worker.join();
+
+        return operations.sum() * 1_000.0 / DURATION_MILLIS;
+    }
+
+    /**
+     * Returns a HeapPriorityQueue behind one lock.
+     *
+     * @return the locked queue
+     */
+    private static Target lockedHeap() {
+        var queue = new HeapPriorityQueue();
+
+        return new Target() {
+            @Override
+            public synchronized void add(int item) {
+                queue.add(item);
+            }
+
+            @Override
+            public synchronized int remove() {
+                return queue.remove();
+            }
+        };
+    }
+
+    /**
+     * Returns a ConcurrentPriorityQueue in the given mode.
+     *
+     * @param strict true for a strict queue, false for a relaxed one
+     * @return the queue
+     */
+    private static Target concurrent(boolean strict) {
+        var queue = new ConcurrentPriorityQueue(strict);
+
+        return new Target() {
+            @Override
+            public void add(int item) {
+                queue.add(item);
+            }
+
+            @Override
+            public int remove() {
+                return queue.remove();
+            }
+        };
+    }
+
+    /**
+     * Main method to run the benchmark.
+     *
+     * @param args thread counts to measure (default: 1 2 4 8 16 32 64)
+     */
+    public static void main(String[] args) throws InterruptedException {
+        var threadCounts = args.length == 0 ? new int[] { 1, 2, 4, 8, 16, 32, 64 } : new int[args.length];
+        for (var i = 0; i < args.length; i++)
+            threadCounts[i] = Integer.parseInt(args[i]);
+
+        System.out.printf("%8s %18s %18s %18s%n", "threads", "locked heap op/s", "strict op/s", "relaxed op/s");
+        for (var threads : threadCounts) {
+            var locked = run(lockedHeap(), threads);
+            var strict = run(concurrent(true), threads);
+            var relaxed = run(concurrent(false), threads);
+            System.out.printf("%8d %18.0f %18.0f %18.0f%n", threads, locked, strict, relaxed);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package DataStructuresAndAlgorithms.Benchmarks;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import DataStructuresAndAlgorithms.IndexedPriorityQueue;
+import DataStructuresAndAlgorithms.PriorityQueue;
+
+/**
+ * This class measures the cost of changing the priority of a queued job in
+ * {@link IndexedPriorityQueue} against the sorted-array {@link PriorityQueue}.
+ * The sorted array has no handle on a job, so a change drains the queue down
+ * to the job, drops it and re-adds the drained jobs. Nine rounds in ten
+ * change the priority of a random job; the tenth cancels a random job and
+ * queues it again.
+ */
+public class IndexedPriorityQueueBenchmark {
+    private static final int PRIORITY_BITS = 11; // Priorities range over [0, 2^11)
+    private static final int ID_BITS = 20; // Job ids range over [0, 2^20)
+    private static final long DURATION_MILLIS = 2_000; // Length of each measurement
+
+    /**
+     * This interface abstracts the scheduler operations being measured.
+     */
+    private interface Target {
+        void add(int id, int priority);
+
+        void remove(int id);
+
+        void changePriority(int id, int priority);
+    }
+
+    /**
+     * Runs the workload against the given target for a fixed time.
+     *
+     * @param target the queue under test, holding jobs 0 to jobs - 1
+     * @param jobs   the number of queued jobs
+     * @return the cost of one round in nanoseconds
+     */
+    private static double run(Target target, int jobs) {
+        var random = ThreadLocalRandom.current();
+        var rounds = 0L;
+        var start = System.nanoTime();
+        var deadline = start + DURATION_MILLIS * 1_000_000;
+
+        while (System.nanoTime() < deadline) {
+            for (var i = 0; i < 100; i++) {
+                var id = random.nextInt(jobs);
+                var priority = random.nextInt(1 << PRIORITY_BITS);
+                if (i % 10 == 0) {
+                    target.remove(id);
+                    target.add(id, priority);
+                } else {
+                    target.changePriority(id, priority);
+                }
+            }
+            rounds += 100;
+        }
+
+        return (System.nanoTime() - start) / (double) rounds;
+    }
+
+    /**
+     * Returns an IndexedPriorityQueue holding the given number of jobs.
+     *
+     * @param jobs the number of jobs
+     * @return the queue
+     */
+    private static Target indexed(int jobs) {
+        var random = ThreadLocalRandom.current();
+        var queue = new IndexedPriorityQueue(jobs);
+        for (var id = 0; id < jobs; id++)
+            queue.add(id, random.nextInt(1 << PRIORITY_BITS));
+
+        return new Target() {
+            @Override
+            public void add(int id, int priority) {
+                queue.add(id, priority);
+            }
+
+            @Override
+            public void remove(int id) {
+                queue.remove(id);
+            }
+
+            @Override
+            public void changePriority(int id, int priority) {
+                queue.changePriority(id, priority);
+            }
+        };
+    }
+
+    /**
+     * Returns a sorted-array PriorityQueue holding the given number of jobs,
+     * each stored as its priority in the high bits and its id in the low bits.
+     *
+     * @param jobs the number of jobs
+     * @return the queue
+     */
+    private static Target sortedArray(int jobs) {
+        var random = ThreadLocalRandom.current();
+        var queue = new PriorityQueue(jobs);
+        var priorities = new int[jobs];
+        var drained = new int[jobs];
+        for (var id = 0; id < jobs; id++) {
+            priorities[id] = random.nextInt(1 << PRIORITY_BITS);
+            queue.add(priorities[id] << ID_BITS | id);
+        }
+
+        return new Target() {
+            @Override
+            public void add(int id, int priority) {
+                priorities[id] = priority;
+                queue.add(priority << ID_BITS | id);
+            }
+
+            @Override
+            public void remove(int id) {
+                // remove() returns the smallest item: drain up to the job, then re-add the rest
+                var item = priorities[id] << ID_BITS | id;
+                var count = 0;
+                for (var next = queue.remove(); next != item; next = queue.remove())
+                    drained[count++] = next;
+                while (count > 0)
+                    queue.add(drained[--count]);
+            }
+
+            @Override
+            public void changePriority(int id, int priority) {
+                remove(id);
+                add(id, priority);
+            }
+        };
+    }
+
+    /**
+     * Main method to run the benchmark.
+     *
+     * @param args the numbers of queued jobs to measure (default: 1000 10000 100000)
+     */
+    public static void main(String[] args) {
+        var sizes = args.length == 0 ? new int[] { 1_000, 10_000, 100_000 } : new int[args.length];
+        for (var i = 0; i < args.length; i++)
+            sizes[i] = Integer.parseInt(args[i]);
+
+        System.out.printf("%10s %22s %22s%n", "jobs", "sorted array ns/op", "indexed heap ns/op");
+        for (var jobs : sizes) {
+            if (jobs > 1 << ID_BITS)
+                throw new IllegalArgumentException("At most " + (1 << ID_BITS) + " jobs.");
+
+            var sorted = run(sortedArray(jobs), jobs);
+            var indexed = run(indexed(jobs), jobs);
+            System.out.printf("%10d %22.1f %22.1f%n", jobs, sorted, indexed);
+        }
+    }
+}
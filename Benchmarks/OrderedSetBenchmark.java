@@ -0,0 +1,163 @@
+package DataStructuresAndAlgorithms.Benchmarks;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import DataStructuresAndAlgorithms.AVLTree;
+import DataStructuresAndAlgorithms.LockFreeSkipList;
+
+/**
+ * This class measures the multi-threaded throughput of {@link LockFreeSkipList}
+ * against an {@link AVLTree} guarded by a single global lock.
+ * Every thread runs a mix of 80% contains, 10% inserts and 10% deletes for a
+ * fixed amount of time. A small key range makes threads contend for the same
+ * values; a large one spreads them out.
+ */
+public class OrderedSetBenchmark {
+    private static final int READ_PERCENT = 80; // Share of operations that are contains
+    private static final long DURATION_MILLIS = 2_000; // Length of each measurement
+
+    /**
+     * This interface abstracts the ordered-set operations being measured.
+     */
+    private interface Target {
+        void insert(int value);
+
+        void delete(int value);
+
+        boolean contains(int value);
+    }
+
+    /**
+     * Runs the workload against the given target with the given number of
+     * threads.
+     *
+     * @param target   the set under test
+     * @param threads  the number of worker threads
+     * @param keyRange the number of distinct values used
+     * @return the throughput in operations per second
+     * @throws InterruptedException if interrupted while waiting for workers
+     */
+    private static double run(Target target, int threads, int keyRange) throws InterruptedException {
+        var operations = new LongAdder();
+        var start = new CountDownLatch(1);
+        var deadline = new long[1];
+        var workers = new Thread[threads];
+
+        for (var t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                var random = ThreadLocalRandom.current();
+                var done = 0L;
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                while (System.nanoTime() < deadline[0]) {
+                    for (var i = 0; i < 1_000; i++) {
+                        var value = random.nextInt(keyRange);
+                        var choice = random.nextInt(100);
+                        if (choice < READ_PERCENT)
+                            target.contains(value);
+                        else if ((choice & 1) == 0)
+                            target.insert(value);
+                        else
+                            target.delete(value);
+                    }
+                    done += 1_000;
+                }
+                operations.add(done);
+            });
+            workers[t].start();
+        }
+
+        deadline[0] = System.nanoTime() + DURATION_MILLIS * 1_000_000;
+        start.countDown();
+        for (var worker : workers)
+            worker.join();
+
+        return operations.sum() * 1_000.0 / DURATION_MILLIS;
+    }
+
+    /**
+     * Returns an AVLTree behind one lock, half filled with the key range.
+     * Inserts skip values already present, so it behaves as a set.
+     *
+     * @param keyRange the number of distinct values used
+     * @return the locked tree
+     */
+    private static Target lockedAVLTree(int keyRange) {
+        var tree = new AVLTree();
+        for (var value = 0; value < keyRange; value += 2)
+            tree.insert(value);
+
+        return new Target() {
+            @Override
+            public synchronized void insert(int value) {
+                if (!tree.contains(value))
+                    tree.insert(value);
+            }
+
+            @Override
+            public synchronized void delete(int value) {
+                tree.delete(value);
+            }
+
+            @Override
+            public synchronized boolean contains(int value) {
+                return tree.contains(value);
+            }
+        };
+    }
+
+    /**
+     * Returns a LockFreeSkipList, half filled with the key range.
+     *
+     * @param keyRange the number of distinct values used
+     * @return the skip list
+     */
+    private static Target skipList(int keyRange) {
+        var set = new LockFreeSkipList();
+        for (var value = 0; value < keyRange; value += 2)
+            set.insert(value);
+
+        return new Target() {
+            @Override
+            public void insert(int value) {
+                set.insert(value);
+            }
+
+            @Override
+            public void delete(int value) {
+                set.delete(value);
+            }
+
+            @Override
+            public boolean contains(int value) {
+                return set.contains(value);
+            }
+        };
+    }
+
+    /**
+     * Main method to run the benchmark.
+     *
+     * @param args the key range followed by thread counts to measure
+     *             (default: 1000 1 2 4 8 16)
+     */
+    public static void main(String[] args) throws InterruptedException {
+        var keyRange = args.length == 0 ? 1_000 : Integer.parseInt(args[0]);
+        var threadCounts = args.length <= 1 ? new int[] { 1, 2, 4, 8, 16 } : new int[args.length - 1];
+        for (var i = 1; i < args.length; i++)
+            threadCounts[i - 1] = Integer.parseInt(args[i]);
+
+        System.out.printf("key range %d%n", keyRange);
+        System.out.printf("%8s %20s %20s%n", "threads", "locked AVLTree op/s", "skip list op/s");
+        for (var threads : threadCounts) {
+            var locked = run(lockedAVLTree(keyRange), threads, keyRange);
+            var lockFree = run(skipList(keyRange), threads, keyRange);
+            System.out.printf("%8d %20.0f %20.0f%n", threads, locked, lockFree);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package DataStructuresAndAlgorithms.Benchmarks;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import DataStructuresAndAlgorithms.HashMap;
+import DataStructuresAndAlgorithms.StripedHashMap;
+
+/**
+ * This class measures the multi-threaded throughput of {@link StripedHashMap}
+ * against a {@link HashMap} guarded by a single lock.
+ * Every thread runs a mix of 90% gets and 10% puts over a shared key range
+ * for a fixed amount of time.
+ */
+public class StripedHashMapBenchmark {
+    private static final int KEY_RANGE = 1 << 20; // Number of distinct keys used
+    private static final int WRITE_PERCENT = 10; // Share of operations that are puts
+    private static final long DURATION_MILLIS = 2_000; // Length of each measurement
+
+    /**
+     * This interface abstracts the map operations being measured.
+     */
+    private interface Target {
+        void put(int key, String value);
+
+        String get(int key);
+    }
+
+    /**
+     * Runs the workload against the given target with the given number of
+     * threads.
+     *
+     * @param target  the map under test
+     * @param threads the number of worker threads
+     * @return the throughput in operations per second
+     * @throws InterruptedException if interrupted while waiting for workers
+     */
+    private static double run(Target target, int threads) throws InterruptedException {
+        var operations = new LongAdder();
+        var start = new CountDownLatch(1);
+        var deadline = new long[1];
+        var workers = new Thread[threads];
+
+        for (var t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                var random = ThreadLocalRandom.current();
+                var value = "value";
+                var done = 0L;
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                while (System.nanoTime() < deadline[0]) {
+                    for (var i = 0; i < 1_000; i++) {
+                        var key = random.nextInt(KEY_RANGE);
+                        if (random.nextInt(100) < WRITE_PERCENT)
+                            target.put(key, value);
+                        else
+                            target.get(key);
+                    }
+                    done += 1_000;
+                }
+                operations.add(done);
+            });
+            workers[t].start();
+        }
+
+        deadline[0] = System.nanoTime() + DURATION_MILLIS * 1_000_000;
+        start.countDown();
+        for (var worker : workers)
+            worker.join();
+
+        return operations.sum() * 1_000.0 / DURATION_MILLIS;
+    }
+
+    /**
+     * Returns a single-lock wrapper around a freshly populated HashMap.
+     *
+     * @return the locked map
+     */
+    private static Target lockedHashMap() {
+        var map = new HashMap();
+        for (var key = 0; key < KEY_RANGE; key += 2)
+            map.put(key, "value");
+
+        return new Target() {
+            @Override
+            public synchronized void put(int key, String value) {
+                map.put(key, value);
+            }
+
+            @Override
+            public synchronized String get(int key) {
+                return map.get(key);
+            }
+        };
+    }
+
+    /**
+     * Returns a freshly populated StripedHashMap.
+     *
+     * @return the striped map
+     */
+    private static Target stripedHashMap() {
+        var map = new StripedHashMap(64);
+        for (var key = 0; key < KEY_RANGE; key += 2)
+            map.put(key, "value");
+
+        return new Target() {
+            @Override
+            public void put(int key, String value) {
+                map.put(key, value);
+            }
+
+            @Override
+            public String get(int key) {
+                return map.get(key);
+            }
+        };
+    }
+
+    /**
+     * Main method to run the benchmark.
+     *
+     * @param args thread counts to measure (default: 1 2 4 8 16)
+     */
+    public static void main(String[] args) throws InterruptedException {
+        var threadCounts = args.length == 0 ? new int[] { 1, 2, 4, 8, 16 } : new int[args.length];
+        for (var i = 0; i < args.length; i++)
+            threadCounts[i] = Integer.parseInt(args[i]);
+
+        System.out.printf("%8s %20s %20s%n", "threads", "locked HashMap op/s", "StripedHashMap op/s");
+        for (var threads : threadCounts) {
+            var locked = run(lockedHashMap(), threads);
+            var striped = run(stripedHashMap(), threads);
+            System.out.printf("%8d %20.0f %20.0f%n", threads, locked, striped);
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package DataStructuresAndAlgorithms.Benchmarks;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntConsumer;
+
+import DataStructuresAndAlgorithms.IndexedPriorityQueue;
+import DataStructuresAndAlgorithms.TimingWheel;
+
+/**
+ * This class measures the cost of scheduling, cancelling and firing timeouts
+ * in {@link TimingWheel} against a heap, at several cancellation ratios.
+ * The sorted-array PriorityQueue can't cancel a queued item, so the heap is
+ * an {@link IndexedPriorityQueue} keyed by timer id, with the negated
+ * deadline as its priority so that the earliest deadline is on top.
+ * Each measurement starts with a million timeouts pending. Every round then
+ * schedules a request timeout of about 30,000 ticks and, with the given
+ * probability, cancels one of the last 4096 timeouts scheduled, as a request
+ * that completed in time would; every 100 rounds the clock moves forward one
+ * tick and the expired timeouts fire.
+ */
+public class TimingWheelBenchmark {
+    private static final int PENDING = 1_000_000; // Timeouts pending when a measurement starts
+    private static final int MAX_TIMERS = 1 << 21; // Timer ids range over [0, 2^21)
+    private static final int TIMEOUT_TICKS = 30_000; // Timeouts range over (29900, 30000] ticks
+    private static final int JITTER_TICKS = 100; // Spread of the timeouts
+    private static final int RECENT = 4096; // Recently scheduled timeouts that a round may cancel
+    private static final int ROUNDS_PER_TICK = 100; // Rounds between clock ticks
+    private static final long DURATION_MILLIS = 2_000; // Length of each measurement
+
+    /**
+     * This interface abstracts the timer operations being measured.
+     */
+    private interface Target {
+        void schedule(int id, int deadline);
+
+        void cancel(int id);
+
+        void advance(int now, IntConsumer expired);
+    }
+
+    /**
+     * This class tracks the pending timer ids, so a random one can be
+     * cancelled and an expired one recycled in constant time.
+     */
+    private static class Timers {
+        private final int[] pending = new int[MAX_TIMERS]; // Pending ids, then free ids
+        private final int[] positions = new int[MAX_TIMERS]; // Position of each id in pending
+        private int count; // The number of pending ids
+
+        /**
+         * Constructs a tracker with every id free.
+         */
+        public Timers() {
+            for (var id = 0; id < MAX_TIMERS; id++) {
+                pending[id] = id;
+                positions[id] = id;
+            }
+        }
+
+        /**
+         * Marks a free id as pending.
+         *
+         * @return the id, or -1 if every id is pending
+         */
+        public int take() {
+            return (count == MAX_TIMERS) ? -1 : pending[count++];
+        }
+
+        /**
+         * Returns a random pending id.
+         *
+         * @return the id
+         */
+        public int random() {
+            return pending[ThreadLocalRandom.current().nextInt(count)];
+        }
+
+        /**
+         * Checks if an id is pending.
+         *
+         * @param id the id to check
+         * @return true if the id is pending, false if it is free
+         */
+        public boolean isPending(int id) {
+            return positions[id] < count;
+        }
+
+        /**
+         * Marks a pending id as free by swapping it past the last pending id.
+         *
+         * @param id the id to free
+         */
+        public void release(int id) {
+            var position = positions[id];
+            var last = pending[--count];
+            pending[position] = last;
+            positions[last] = position;
+            pending[count] = id;
+            positions[id] = count;
+        }
+    }
+
+    /**
+     * Runs the workload against the given target for a fixed time.
+     *
+     * @param target      the timer queue under test, empty
+     * @param cancelRatio the probability that a round cancels a timeout
+     * @return the cost of one round in nanoseconds
+     */
+    private static double run(Target target, double cancelRatio) {
+        var random = ThreadLocalRandom.current();
+        var timers = new Timers();
+        IntConsumer expired = timers::release;
+        var now = 0;
+        for (var i = 0; i < PENDING; i++)
+            target.schedule(timers.take(), 1 + random.nextInt(TIMEOUT_TICKS - 1));
+
+        var recent = new int[RECENT];
+        for (var i = 0; i < RECENT; i++)
+            recent[i] = timers.random();
+
+        var rounds = 0L;
+        var start = System.nanoTime();
+        var deadline = start + DURATION_MILLIS * 1_000_000;
+
+        while (System.nanoTime() < deadline) {
+            for (var i = 0; i < ROUNDS_PER_TICK; i++) {
+                var id = timers.take();
+                if (id >= 0) {
+                    target.schedule(id, now + TIMEOUT_TICKS - random.nextInt(JITTER_TICKS));
+                    recent[(int) (rounds + i) % RECENT] = id;
+                }
+
+                // The picked timeout may have fired or been cancelled already
+                var cancelled = recent[random.nextInt(RECENT)];
+                if (random.nextDouble() < cancelRatio && timers.isPending(cancelled)) {
+                    target.cancel(cancelled);
+                    timers.release(cancelled);
+                }
+            }
+
+            target.advance(++now, expired);
+            rounds += ROUNDS_PER_TICK;
+        }
+
+        return (System.nanoTime() - start) / (double) rounds;
+    }
+
+    /**
+     * Returns an IndexedPriorityQueue used as a timer queue.
+     *
+     * @return the heap
+     */
+    private static Target heap() {
+        var queue = new IndexedPriorityQueue(MAX_TIMERS);
+
+        return new Target() {
+            @Override
+            public void schedule(int id, int deadline) {
+                queue.add(id, -deadline);
+            }
+
+            @Override
+            public void cancel(int id) {
+                queue.remove(id);
+            }
+
+            @Override
+            public void advance(int now, IntConsumer expired) {
+                while (!queue.isEmpty() && -queue.priorityOf(queue.peek()) <= now)
+                    expired.accept(queue.remove());
+            }
+        };
+    }
+
+    /**
+     * Returns a TimingWheel whose payloads are the timer ids.
+     *
+     * @return the wheel
+     */
+    private static Target wheel() {
+        var wheel = new TimingWheel(0, MAX_TIMERS);
+        var handles = new long[MAX_TIMERS];
+
+        return new Target() {
+            @Override
+            public void schedule(int id, int deadline) {
+                handles[id] = wheel.schedule(id, deadline);
+            }
+
+            @Override
+            public void cancel(int id) {
+                wheel.cancel(handles[id]);
+            }
+
+            @Override
+            public void advance(int now, IntConsumer expired) {
+                wheel.advance(now, expired);
+            }
+        };
+    }
+
+    /**
+     * Main method to run the benchmark.
+     *
+     * @param args the cancellation ratios to measure (default: 0.5 0.9 0.99)
+     */
+    public static void main(String[] args) {
+        var ratios = args.length == 0 ? new double[] { 0.5, 0.9, 0.99 } : new double[args.length];
+        for (var i = 0; i < args.length; i++)
+            ratios[i] = Double.parseDouble(args[i]);
+
+        System.out.printf("%12s %16s %16s%n", "cancelled", "heap ns/op", "wheel ns/op");
+        for (var ratio : ratios) {
+            var heap = run(heap(), ratio);
+            var wheel = run(wheel(), ratio);
+            System.out.printf("%12.2f %16.1f %16.1f%n", ratio, heap, wheel);
+        }
+    }
+}
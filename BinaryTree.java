@@ -1,11 +1,33 @@
 package DataStructuresAndAlgorithms;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
 /**
  * This class implements a binary search tree data structure.
  * It provides basic operations to insert and search for values,
  * as well as various tree traversal methods.
+ * By default the tree is not balanced, so sorted input degrades it into a
+ * list; {@link #rebalance()} rebuilds it on demand, and a tree constructed
+ * as self-balancing keeps its height logarithmic as a scapegoat tree.
  */
 public class BinaryTree {
+    private static final double BALANCE_RATIO = 2.0 / 3.0; // Largest share of a subtree one child may hold
+    private static final double LOG_INVERSE_RATIO = Math.log(1 / BALANCE_RATIO); // Base of the depth bound
 
     /**
      * This class represents a node in the binary tree.
@@ -30,36 +52,286 @@ public class BinaryTree {
         }
     }
 
+    /**
+     * This interface accepts the levels of the tree, one at a time.
+     */
+    @FunctionalInterface
+    public interface LevelConsumer {
+        /**
+         * Accepts one level.
+         *
+         * @param level  the distance of the level from the root
+         * @param values the values at the level, from left to right
+         */
+        void accept(int level, int[] values);
+    }
+
+    /**
+     * This class holds the shape of the tree level by level.
+     */
+    public static final class LevelStatistics {
+        private final int[] widths; // The number of nodes at each level
+
+        /**
+         * Constructs statistics from the width of each level.
+         *
+         * @param widths the number of nodes at each level
+         */
+        private LevelStatistics(int[] widths) {
+            this.widths = widths;
+        }
+
+        /**
+         * Returns the number of levels, one more than the height.
+         *
+         * @return the number of levels, or 0 if the tree is empty
+         */
+        public int levelCount() {
+            return widths.length;
+        }
+
+        /**
+         * Returns the number of nodes at a level.
+         *
+         * @param level the distance of the level from the root
+         * @return the width of the level
+         * @throws IllegalArgumentException if the level doesn't exist
+         */
+        public int width(int level) {
+            if (level < 0 || level >= widths.length)
+                throw new IllegalArgumentException("Invalid level: " + level);
+
+            return widths[level];
+        }
+
+        /**
+         * Returns the number of nodes at the widest level.
+         *
+         * @return the maximum width, or 0 if the tree is empty
+         */
+        public int maxWidth() {
+            return widths.length == 0 ? 0 : widths[widestLevel()];
+        }
+
+        /**
+         * Returns the first level with the most nodes.
+         *
+         * @return the widest level, or -1 if the tree is empty
+         */
+        public int widestLevel() {
+            var widest = -1;
+            for (var level = 0; level < widths.length; level++) {
+                if (widest < 0 || widths[level] > widths[widest])
+                    widest = level;
+            }
+
+            return widest;
+        }
+
+        @Override
+        public String toString() {
+            return "Levels=" + widths.length + ", Widths=" + Arrays.toString(widths);
+        }
+    }
+
     private Node root; // The root of the tree
+    private int size; // The number of values in the tree
+    private final boolean selfBalancing; // Rebuild unbalanced subtrees on insert
+    private Node[] path = new Node[16]; // Ancestors of the node being inserted, when self-balancing
+
+    /**
+     * Constructs an empty tree that is not balanced automatically.
+     */
+    public BinaryTree() {
+        this(false);
+    }
+
+    /**
+     * Constructs an empty tree.
+     * A self-balancing tree is a scapegoat tree: when an insert lands deeper
+     * than log base 3/2 of the size, the lowest ancestor with a child holding
+     * more than 2/3 of its subtree is rebuilt into a balanced subtree. That
+     * keeps find at O(log n) in the worst case, for O(log n) amortized insert.
+     *
+     * @param selfBalancing true to keep the tree balanced on every insert
+     */
+    public BinaryTree(boolean selfBalancing) {
+        this.selfBalancing = selfBalancing;
+    }
 
     /**
      * Inserts a new value into the binary tree.
+     * Values already in the tree are ignored.
      *
      * @param value the value to insert
      */
     public void insert(int value) {
-        var node = new Node(value);
         if (root == null) {
-            root = node;
+            root = new Node(value);
+            size++;
             return;
         }
 
+        Node node;
+        var depth = 0;
         var current = root;
         while (true) {
+            if (selfBalancing) {
+                if (depth == path.length)
+                    path = Arrays.copyOf(path, depth * 2);
+                path[depth] = current;
+            }
+            depth++;
+
             if (value < current.value) {
                 if (current.leftChild == null) {
-                    current.leftChild = node;
+                    node = current.leftChild = new Node(value);
                     break;
                 }
                 current = current.leftChild;
             } else if (value > current.value) {
                 if (current.rightChild == null) {
-                    current.rightChild = node;
+                    node = current.rightChild = new Node(value);
                     break;
                 }
                 current = current.rightChild;
+            } else {
+                if (selfBalancing)
+                    Arrays.fill(path, 0, depth, null);
+                return;
+            }
+        }
+
+        size++;
+        if (selfBalancing) {
+            if (depth > Math.log(size) / LOG_INVERSE_RATIO)
+                rebuildScapegoat(node, depth);
+            Arrays.fill(path, 0, depth, null);
+        }
+    }
+
+    /**
+     * Finds the lowest weight-unbalanced ancestor of a node inserted too
+     * deep, walking up the recorded path from the node, and rebuilds its
+     * subtree. Any unbalanced ancestor is a valid scapegoat; the lowest one
+     * gives the smallest rebuild.
+     *
+     * @param node  the inserted node
+     * @param depth the depth of the inserted node
+     */
+    private void rebuildScapegoat(Node node, int depth) {
+        var child = node;
+        var childSize = 1;
+        for (var i = depth - 1; i >= 0; i--) {
+            var ancestor = path[i];
+            var sibling = (ancestor.leftChild == child) ? ancestor.rightChild : ancestor.leftChild;
+            var total = childSize + size(sibling) + 1;
+
+            if (childSize > BALANCE_RATIO * total) {
+                var rebuilt = rebuild(ancestor);
+                if (i == 0)
+                    root = rebuilt;
+                else if (path[i - 1].leftChild == ancestor)
+                    path[i - 1].leftChild = rebuilt;
+                else
+                    path[i - 1].rightChild = rebuilt;
+                return;
+            }
+
+            child = ancestor;
+            childSize = total;
+        }
+    }
+
+    /**
+     * Returns the number of values in the tree.
+     *
+     * @return the number of values
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Counts the nodes of a subtree.
+     *
+     * @param root the root of the subtree
+     * @return the number of nodes
+     */
+    private int size(Node root) {
+        if (root == null)
+            return 0;
+
+        return 1 + size(root.leftChild) + size(root.rightChild);
+    }
+
+    /**
+     * Rebuilds the whole tree into a balanced tree, whose height is the
+     * floor of log2(n), with the Day-Stout-Warren algorithm: O(n) time and
+     * O(1) extra space.
+     */
+    public void rebalance() {
+        root = rebuild(root);
+    }
+
+    /**
+     * Rebuilds a subtree into a balanced subtree with the Day-Stout-Warren
+     * algorithm: right rotations first straighten the subtree into a sorted
+     * vine of right children, then rounds of left rotations fold the vine
+     * into a complete tree.
+     *
+     * @param root the root of the subtree
+     * @return the root of the balanced subtree
+     */
+    private Node rebuild(Node root) {
+        var pseudoRoot = new Node(0);
+        pseudoRoot.rightChild = root;
+
+        // Tree to vine: rotate every left child up until none is left
+        var count = 0;
+        var tail = pseudoRoot;
+        var rest = tail.rightChild;
+        while (rest != null) {
+            if (rest.leftChild == null) {
+                tail = rest;
+                rest = rest.rightChild;
+                count++;
+            } else {
+                var left = rest.leftChild;
+                rest.leftChild = left.rightChild;
+                left.rightChild = rest;
+                rest = left;
+                tail.rightChild = left;
             }
         }
+
+        // Vine to tree: place the bottom level first, then halve the vine
+        var leaves = count + 1 - Integer.highestOneBit(count + 1);
+        compress(pseudoRoot, leaves);
+        for (var remaining = count - leaves; remaining > 1; ) {
+            remaining /= 2;
+            compress(pseudoRoot, remaining);
+        }
+
+        return pseudoRoot.rightChild;
+    }
+
+    /**
+     * Rotates every other node of the vine hanging off the given node left,
+     * the given number of times.
+     *
+     * @param pseudoRoot the node above the vine
+     * @param count      the number of rotations
+     */
+    private void compress(Node pseudoRoot, int count) {
+        var scanner = pseudoRoot;
+        for (var i = 0; i < count; i++) {
+            var child = scanner.rightChild;
+            scanner.rightChild = child.rightChild;
+            scanner = scanner.rightChild;
+            child.rightChild = scanner.leftChild;
+            scanner.leftChild = child;
+        }
     }
 
     /**
@@ -87,51 +359,254 @@ public class BinaryTree {
      * Traverses the tree in pre-order (root, left, right) and prints the values.
      */
     public void traversePreOrder() {
-        traversePreOrder(root);
+        preOrderIterator().forEachRemaining((IntConsumer) System.out::println);
     }
 
-    private void traversePreOrder(Node root) {
-        if (root == null)
-            return;
+    /**
+     * Traverses the tree in in-order (left, root, right) and prints the values.
+     */
+    public void traverseInOrder() {
+        inOrderIterator().forEachRemaining((IntConsumer) System.out::println);
+    }
 
-        // root, left, right
-        System.out.println(root.value);
-        traversePreOrder(root.leftChild);
-        traversePreOrder(root.rightChild);
+    /**
+     * Traverses the tree in post-order (left, right, root) and prints the values.
+     */
+    public void traversePostOrder() {
+        postOrderIterator().forEachRemaining((IntConsumer) System.out::println);
     }
 
     /**
-     * Traverses the tree in in-order (left, root, right) and prints the values.
+     * Returns an iterator over the values in pre-order (root, left, right).
+     * The traversal keeps its path on an explicit stack, so deep trees can't
+     * overflow the call stack. The tree must not be modified while iterating.
+     *
+     * @return the pre-order iterator
      */
-    public void traverseInOrder() {
-        traverseInOrder(root);
+    public PrimitiveIterator.OfInt preOrderIterator() {
+        return new PreOrderIterator();
     }
 
-    private void traverseInOrder(Node root) {
-        if (root == null)
-            return;
+    /**
+     * Returns an iterator over the values in in-order (left, root, right).
+     * The traversal keeps its path on an explicit stack, so deep trees can't
+     * overflow the call stack. The tree must not be modified while iterating.
+     *
+     * @return the in-order iterator
+     */
+    public PrimitiveIterator.OfInt inOrderIterator() {
+        return new InOrderIterator();
+    }
 
-        // left, root, right
-        traverseInOrder(root.leftChild);
-        System.out.println(root.value);
-        traverseInOrder(root.rightChild);
+    /**
+     * Returns an iterator over the values in post-order (left, right, root).
+     * The traversal keeps its path on an explicit stack, so deep trees can't
+     * overflow the call stack. The tree must not be modified while iterating.
+     *
+     * @return the post-order iterator
+     */
+    public PrimitiveIterator.OfInt postOrderIterator() {
+        return new PostOrderIterator();
     }
 
     /**
-     * Traverses the tree in post-order (left, right, root) and prints the values.
+     * Returns a lazy stream of the values in pre-order (root, left, right).
+     *
+     * @return the pre-order stream
      */
-    public void traversePostOrder() {
-        traversePostOrder(root);
+    public IntStream preOrder() {
+        return stream(preOrderIterator());
     }
 
-    private void traversePostOrder(Node root) {
-        if (root == null)
-            return;
+    /**
+     * Returns a lazy stream of the values in in-order (left, root, right).
+     *
+     * @return the in-order stream
+     */
+    public IntStream inOrder() {
+        return stream(inOrderIterator());
+    }
 
-        // left, right, root
-        traversePostOrder(root.leftChild);
-        traversePostOrder(root.rightChild);
-        System.out.println(root.value);
+    /**
+     * Returns a lazy stream of the values in post-order (left, right, root).
+     *
+     * @return the post-order stream
+     */
+    public IntStream postOrder() {
+        return stream(postOrderIterator());
+    }
+
+    /**
+     * Wraps a traversal iterator in a sequential, ordered stream.
+     *
+     * @param iterator the traversal iterator
+     * @return the stream
+     */
+    private static IntStream stream(PrimitiveIterator.OfInt iterator) {
+        return StreamSupport.intStream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false);
+    }
+
+    /**
+     * This class iterates over the values in pre-order.
+     */
+    private class PreOrderIterator implements PrimitiveIterator.OfInt {
+        private final ArrayDeque<Node> stack = new ArrayDeque<>(); // Subtrees still to visit
+
+        /**
+         * Constructs an iterator starting at the root.
+         */
+        public PreOrderIterator() {
+            if (root != null)
+                stack.push(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !stack.isEmpty();
+        }
+
+        @Override
+        public int nextInt() {
+            if (stack.isEmpty())
+                throw new NoSuchElementException();
+
+            // root, left, right: the left child is pushed last so it is visited first
+            var node = stack.pop();
+            if (node.rightChild != null)
+                stack.push(node.rightChild);
+            if (node.leftChild != null)
+                stack.push(node.leftChild);
+
+            return node.value;
+        }
+    }
+
+    /**
+     * This class iterates over the values in in-order.
+     */
+    private class InOrderIterator implements PrimitiveIterator.OfInt {
+        private final ArrayDeque<Node> stack = new ArrayDeque<>(); // Nodes whose left subtree is being visited
+
+        /**
+         * Constructs an iterator starting at the smallest value.
+         */
+        public InOrderIterator() {
+            pushLeftPath(root);
+        }
+
+        /**
+         * Pushes a node and its chain of left children onto the stack.
+         *
+         * @param node the first node to push
+         */
+        private void pushLeftPath(Node node) {
+            for (; node != null; node = node.leftChild)
+                stack.push(node);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !stack.isEmpty();
+        }
+
+        @Override
+        public int nextInt() {
+            if (stack.isEmpty())
+                throw new NoSuchElementException();
+
+            // left, root, right
+            var node = stack.pop();
+            pushLeftPath(node.rightChild);
+
+            return node.value;
+        }
+    }
+
+    /**
+     * This class iterates over the values in post-order.
+     */
+    private class PostOrderIterator implements PrimitiveIterator.OfInt {
+        private final ArrayDeque<Node> stack = new ArrayDeque<>(); // Nodes whose children are being visited
+        private Node next = root; // Subtree to descend into before visiting the top of the stack
+        private Node lastVisited; // The node returned last
+
+        @Override
+        public boolean hasNext() {
+            return next != null || !stack.isEmpty();
+        }
+
+        @Override
+        public int nextInt() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+
+            // left, right, root: a node is visited once its right subtree is done
+            while (true) {
+                if (next != null) {
+                    stack.push(next);
+                    next = next.leftChild;
+                    continue;
+                }
+
+                var node = stack.peek();
+                if (node.rightChild != null && node.rightChild != lastVisited) {
+                    next = node.rightChild;
+                } else {
+                    stack.pop();
+                    lastVisited = node;
+                    return node.value;
+                }
+            }
+        }
+    }
+
+    /**
+     * Passes the values in in-order to the action until it returns false,
+     * using a Morris traversal: instead of a stack, the traversal temporarily
+     * threads the rightmost node of each left subtree back to its ancestor.
+     * It allocates nothing and uses O(1) extra space. If the action stops
+     * early, the walk continues without visiting until every thread has been
+     * removed, so the tree is always left unchanged. Because the links are
+     * modified during the walk, the tree must not be read by other threads at
+     * the same time.
+     *
+     * @param action receives each value; returns false to stop the traversal
+     * @return true if every value was visited, false if the action stopped early
+     */
+    public boolean forEachInOrderMorris(IntPredicate action) {
+        var current = root;
+        var threads = 0; // Threads currently added to the tree
+        var stopped = false;
+
+        while (current != null && !(stopped && threads == 0)) {
+            if (current.leftChild == null) {
+                if (!stopped)
+                    stopped = !action.test(current.value);
+                current = current.rightChild;
+                continue;
+            }
+
+            // Find the in-order predecessor: the rightmost node of the left subtree
+            var predecessor = current.leftChild;
+            while (predecessor.rightChild != null && predecessor.rightChild != current)
+                predecessor = predecessor.rightChild;
+
+            if (predecessor.rightChild == null) {
+                // First arrival: thread the predecessor back and descend left
+                predecessor.rightChild = current;
+                threads++;
+                current = current.leftChild;
+            } else {
+                // Second arrival: the left subtree is done, so remove the thread
+                predecessor.rightChild = null;
+                threads--;
+                if (!stopped)
+                    stopped = !action.test(current.value);
+                current = current.rightChild;
+            }
+        }
+
+        return !stopped;
     }
 
     /**
@@ -160,20 +635,20 @@ public class BinaryTree {
      * @return the minimum value in the tree
      */
     public int min() {
-        return min(root);
-    }
-
-    private int min(Node root) {
         if (root == null)
             throw new IllegalStateException("Can't get min of null node.");
 
-        if (isLeaf(root))
-            return root.value;
+        return min(root);
+    }
 
-        var left = min(root.leftChild);
-        var right = min(root.rightChild);
+    private int min(Node root) {
+        var min = root.value;
+        if (root.leftChild != null)
+            min = Math.min(min, min(root.leftChild));
+        if (root.rightChild != null)
+            min = Math.min(min, min(root.rightChild));
 
-        return Math.min(Math.min(left, right), root.value);
+        return min;
     }
 
     /**
@@ -269,6 +744,269 @@ public class BinaryTree {
                 && isBinarySearchTree(root.rightChild, root.value + 1, max);
     }
 
+    /**
+     * Saves the tree in the compact pre-order format read by {@link TreeImage},
+     * so later processes can query it from a memory-mapped file instead of
+     * rebuilding it.
+     *
+     * @param file the file to write, replaced if it exists
+     * @throws IOException if the file can't be written
+     */
+    public void writeTo(Path file) throws IOException {
+        try (var writer = new TreeImage.Writer(file, size)) {
+            if (root == null)
+                return;
+
+            // Each stack entry pairs a node with the parent whose right child it is, or -1
+            var nodes = new ArrayDeque<Node>();
+            var parents = new int[16];
+            nodes.push(root);
+            parents[0] = -1;
+
+            while (!nodes.isEmpty()) {
+                var parent = parents[nodes.size() - 1];
+                var node = nodes.pop();
+                var index = writer.add(node.value, node.leftChild != null);
+                if (parent >= 0)
+                    writer.setRight(parent, index);
+
+                // The left child is pushed last so it is written next
+                if (node.rightChild != null)
+                    parents = push(nodes, parents, node.rightChild, index);
+                if (node.leftChild != null)
+                    parents = push(nodes, parents, node.leftChild, -1);
+            }
+        }
+    }
+
+    /**
+     * Pushes a node and its parent entry onto the pre-order stack of
+     * {@link #writeTo(Path)}.
+     *
+     * @param nodes   the stack of nodes
+     * @param parents the parent entry of each stacked node
+     * @param node    the node to push
+     * @param parent  the index of the parent whose right child it is, or -1
+     * @return the parent entries, grown if needed
+     */
+    private static int[] push(ArrayDeque<Node> nodes, int[] parents, Node node, int parent) {
+        if (nodes.size() == parents.length)
+            parents = Arrays.copyOf(parents, parents.length * 2);
+
+        parents[nodes.size()] = parent;
+        nodes.push(node);
+
+        return parents;
+    }
+
+    /**
+     * Returns the depth down to which the parallel algorithms fork a task per
+     * subtree: enough tasks to keep every worker of the common pool busy
+     * when subtrees differ in size. Below it the sequential algorithms run.
+     *
+     * @return the fork depth
+     */
+    private static int forkDepth() {
+        return 32 - Integer.numberOfLeadingZeros(ForkJoinPool.getCommonPoolParallelism()) + 4;
+    }
+
+    /**
+     * Computes the height of the tree like {@link #height()}, splitting the
+     * walk over the subtrees across the common fork-join pool.
+     *
+     * @return the height of the tree
+     */
+    public int parallelHeight() {
+        return ForkJoinPool.commonPool().invoke(new HeightTask(root, forkDepth()));
+    }
+
+    /**
+     * Computes the minimum value in the binary tree like {@link #min()},
+     * splitting the walk over the subtrees across the common fork-join pool.
+     *
+     * @return the minimum value in the tree
+     */
+    public int parallelMin() {
+        if (root == null)
+            throw new IllegalStateException("Can't get min of null node.");
+
+        return ForkJoinPool.commonPool().invoke(new MinTask(root, forkDepth()));
+    }
+
+    /**
+     * Compares this binary tree to another binary tree like
+     * {@link #equals(BinaryTree)}, splitting the comparison over the subtrees
+     * across the common fork-join pool.
+     *
+     * @param other the other binary tree to compare to
+     * @return true if the trees are equal, false otherwise
+     */
+    public boolean parallelEquals(BinaryTree other) {
+        if (other == null)
+            return false;
+
+        return ForkJoinPool.commonPool().invoke(new EqualsTask(root, other.root, forkDepth()));
+    }
+
+    /**
+     * Checks if the binary tree is a binary search tree like
+     * {@link #isBinarySearchTree()}, splitting the check over the subtrees
+     * across the common fork-join pool.
+     *
+     * @return true if the tree is a BST, false otherwise
+     */
+    public boolean parallelIsBinarySearchTree() {
+        return ForkJoinPool.commonPool()
+                .invoke(new SearchTreeTask(root, Integer.MIN_VALUE, Integer.MAX_VALUE, forkDepth()));
+    }
+
+    /**
+     * This class computes the height of a subtree in parallel.
+     */
+    private class HeightTask extends RecursiveTask<Integer> {
+        private static final long serialVersionUID = 1L;
+
+        private final Node root; // The root of the subtree
+        private final int forkDepth; // Levels left to fork below this one
+
+        /**
+         * Constructs a task for the given subtree.
+         *
+         * @param root      the root of the subtree
+         * @param forkDepth the number of levels left to fork
+         */
+        public HeightTask(Node root, int forkDepth) {
+            this.root = root;
+            this.forkDepth = forkDepth;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (root == null || forkDepth == 0)
+                return height(root);
+
+            var left = new HeightTask(root.leftChild, forkDepth - 1);
+            left.fork();
+            var right = new HeightTask(root.rightChild, forkDepth - 1).compute();
+
+            return 1 + Math.max(left.join(), right);
+        }
+    }
+
+    /**
+     * This class computes the minimum value of a non-empty subtree in parallel.
+     */
+    private class MinTask extends RecursiveTask<Integer> {
+        private static final long serialVersionUID = 1L;
+
+        private final Node root; // The root of the subtree
+        private final int forkDepth; // Levels left to fork below this one
+
+        /**
+         * Constructs a task for the given subtree.
+         *
+         * @param root      the root of the subtree, not null
+         * @param forkDepth the number of levels left to fork
+         */
+        public MinTask(Node root, int forkDepth) {
+            this.root = root;
+            this.forkDepth = forkDepth;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (forkDepth == 0 || root.leftChild == null || root.rightChild == null)
+                return min(root);
+
+            var left = new MinTask(root.leftChild, forkDepth - 1);
+            left.fork();
+            var right = new MinTask(root.rightChild, forkDepth - 1).compute();
+
+            return Math.min(root.value, Math.min(left.join(), right));
+        }
+    }
+
+    /**
+     * This class compares two subtrees in parallel.
+     */
+    private class EqualsTask extends RecursiveTask<Boolean> {
+        private static final long serialVersionUID = 1L;
+
+        private final Node first; // The root of the first subtree
+        private final Node second; // The root of the second subtree
+        private final int forkDepth; // Levels left to fork below this one
+
+        /**
+         * Constructs a task for the given pair of subtrees.
+         *
+         * @param first     the root of the first subtree
+         * @param second    the root of the second subtree
+         * @param forkDepth the number of levels left to fork
+         */
+        public EqualsTask(Node first, Node second, int forkDepth) {
+            this.first = first;
+            this.second = second;
+            this.forkDepth = forkDepth;
+        }
+
+        @Override
+        protected Boolean compute() {
+            if (first == null || second == null || forkDepth == 0)
+                return BinaryTree.this.equals(first, second);
+
+            if (first.value != second.value)
+                return false;
+
+            var left = new EqualsTask(first.leftChild, second.leftChild, forkDepth - 1);
+            left.fork();
+            var right = new EqualsTask(first.rightChild, second.rightChild, forkDepth - 1).compute();
+
+            return left.join() && right;
+        }
+    }
+
+    /**
+     * This class checks in parallel that a subtree is a BST within a range.
+     */
+    private class SearchTreeTask extends RecursiveTask<Boolean> {
+        private static final long serialVersionUID = 1L;
+
+        private final Node root; // The root of the subtree
+        private final int min; // The minimum allowed value
+        private final int max; // The maximum allowed value
+        private final int forkDepth; // Levels left to fork below this one
+
+        /**
+         * Constructs a task for the given subtree and range.
+         *
+         * @param root      the root of the subtree
+         * @param min       the minimum allowed value
+         * @param max       the maximum allowed value
+         * @param forkDepth the number of levels left to fork
+         */
+        public SearchTreeTask(Node root, int min, int max, int forkDepth) {
+            this.root = root;
+            this.min = min;
+            this.max = max;
+            this.forkDepth = forkDepth;
+        }
+
+        @Override
+        protected Boolean compute() {
+            if (root == null || forkDepth == 0)
+                return isBinarySearchTree(root, min, max);
+
+            if (root.value < min || root.value > max)
+                return false;
+
+            var left = new SearchTreeTask(root.leftChild, min, root.value - 1, forkDepth - 1);
+            left.fork();
+            var right = new SearchTreeTask(root.rightChild, root.value + 1, max, forkDepth - 1).compute();
+
+            return left.join() && right;
+        }
+    }
+
     /**
      * Recursive helper method to print the values of nodes at a specified distance
      * from a given node.
@@ -305,11 +1043,56 @@ public class BinaryTree {
      * each level.
      */
     public void traverseLevelOrder() {
-        for (var i = 0; i <= height(); i++) {
-            getNodesAtKDistance(i);
+        traverseLevelOrder((level, values) -> {
+            for (var value : values)
+                System.out.println(value);
+        });
+    }
+
+    /**
+     * Traverses the binary tree in level order, passing the values of each
+     * level to the consumer as one batch.
+     * A single breadth-first pass over a queue visits every node once - O(n),
+     * however skewed the tree is.
+     *
+     * @param consumer the consumer of the levels
+     */
+    public void traverseLevelOrder(LevelConsumer consumer) {
+        if (root == null)
+            return;
+
+        var queue = new ArrayDeque<Node>();
+        queue.add(root);
+
+        // The queue holds exactly one level at the start of each round
+        for (var level = 0; !queue.isEmpty(); level++) {
+            var values = new int[queue.size()];
+            for (var i = 0; i < values.length; i++) {
+                var node = queue.remove();
+                values[i] = node.value;
+                if (node.leftChild != null)
+                    queue.add(node.leftChild);
+                if (node.rightChild != null)
+                    queue.add(node.rightChild);
+            }
+
+            consumer.accept(level, values);
         }
     }
 
+    /**
+     * Computes the number of levels and the width of each level in a single
+     * level-order pass.
+     *
+     * @return the level statistics of the tree
+     */
+    public LevelStatistics levelStatistics() {
+        var widths = IntStream.builder();
+        traverseLevelOrder((level, values) -> widths.add(values.length));
+
+        return new LevelStatistics(widths.build().toArray());
+    }
+
     /**
      * Main method to test the BinaryTree implementation with sample operations.
      *
@@ -340,6 +1123,15 @@ public class BinaryTree {
         System.out.println("Post-Order Traversal:");
         tree.traversePostOrder();
 
+        System.out.println("In-Order Stream Sum: " + tree.inOrder().sum());
+        System.out.println("Post-Order Stream: " + Arrays.toString(tree.postOrder().toArray()));
+        System.out.println("Morris In-Order Until 6:");
+        tree.forEachInOrderMorris(value -> {
+            System.out.println(value);
+            return value < 6;
+        });
+        System.out.println("Values After Early Stop: " + tree.inOrder().count());
+
         BinaryTree tree2 = new BinaryTree();
 
         tree2.insert(7);
@@ -357,6 +1149,23 @@ public class BinaryTree {
 
         System.out.println("Is Binary Search Tree:  " + tree.isBinarySearchTree());
 
+        System.out.println("Parallel Height: " + tree.parallelHeight());
+        System.out.println("Parallel Min: " + tree.parallelMin());
+        System.out.println("Parallel Equals: " + tree.parallelEquals(tree2));
+        System.out.println("Parallel Is Binary Search Tree: " + tree.parallelIsBinarySearchTree());
+
+        try {
+            var file = Files.createTempFile("tree", ".img");
+            tree.writeTo(file);
+            try (var image = TreeImage.open(file)) {
+                System.out.println("Image Size: " + image.size());
+                System.out.println("Image Contains 6: " + image.contains(6));
+            }
+            Files.delete(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
         System.out.println("Nodes at (K) 0 distance");
         tree.getNodesAtKDistance(0);
         System.out.println("Nodes at (K) 1 distance");
@@ -368,5 +1177,27 @@ public class BinaryTree {
 
         System.out.println("Level Order/BFT");
         tree.traverseLevelOrder();
+
+        System.out.println("Level Order Batches:");
+        tree.traverseLevelOrder((level, values) -> System.out.println(level + ": " + Arrays.toString(values)));
+
+        var statistics = tree.levelStatistics();
+        System.out.println("Level Statistics: " + statistics);
+        System.out.println("Widest Level: " + statistics.widestLevel() + " (" + statistics.maxWidth() + " nodes)");
+
+        // Ascending input degrades an unbalanced tree into a list
+        var skewed = new BinaryTree();
+        var balanced = new BinaryTree(true);
+        for (var i = 1; i <= 1_000; i++) {
+            skewed.insert(i);
+            balanced.insert(i);
+        }
+        skewed.insert(500);
+
+        System.out.println("Skewed Size: " + skewed.size());
+        System.out.println("Skewed Height: " + skewed.height());
+        System.out.println("Self-Balancing Height: " + balanced.height());
+        skewed.rebalance();
+        System.out.println("Rebalanced Height: " + skewed.height());
     }
 }
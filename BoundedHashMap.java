@@ -0,0 +1,605 @@
+package DataStructuresAndAlgorithms;
+
+import java.util.Random;
+
+/**
+ * This class implements a size-bounded hash map for use as a cache.
+ * The hash map associates integer keys with string values, like {@link HashMap},
+ * but never holds more than a configured number of entries: once it is full,
+ * each insertion evicts an entry chosen by a pluggable {@link EvictionPolicy}.
+ * Two policies are provided, least-recently-used ({@link Lru}) and
+ * W-TinyLFU ({@link WindowTinyLfu}), and the map counts hits, misses and
+ * evictions so the capacity can be tuned against real traffic.
+ * Entries are chained into buckets and linked into the policy's lists through
+ * fields of the entries themselves, so no extra node is allocated per entry.
+ */
+public class BoundedHashMap {
+
+    /**
+     * This class represents an entry in the map.
+     * Besides its key and value, an entry carries the links used by the bucket
+     * chain and by the eviction policy's access-order lists.
+     */
+    public static final class Entry {
+        private final int key; // The key of this entry
+        private String value; // The value associated with the key
+        private Entry chainNext; // The next entry in the same bucket
+        private Entry prev; // The previous entry in the policy list
+        private Entry next; // The next entry in the policy list
+        private AccessOrderList list; // The policy list holding this entry, or null
+
+        /**
+         * Constructs a new Entry with the specified key and value.
+         *
+         * @param key   the key of this entry
+         * @param value the value associated with the key
+         */
+        private Entry(int key, String value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        /**
+         * Returns the key of this entry.
+         *
+         * @return the key
+         */
+        public int getKey() {
+            return key;
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + value;
+        }
+    }
+
+    /**
+     * This interface decides which entry leaves the map when it overflows.
+     * The map reports every hit, miss, insertion and removal to the policy.
+     */
+    public interface EvictionPolicy {
+        /**
+         * Prepares the policy for a map of the given maximum size.
+         * Called once, when the map is constructed.
+         *
+         * @param maximumSize the maximum number of entries in the map
+         */
+        void initialize(int maximumSize);
+
+        /**
+         * Records a successful lookup of an entry.
+         *
+         * @param entry the entry that was read or updated
+         */
+        void recordAccess(Entry entry);
+
+        /**
+         * Records a lookup of a key that is not in the map.
+         *
+         * @param key the key that was looked up
+         */
+        void recordMiss(int key);
+
+        /**
+         * Records the insertion of a new entry.
+         *
+         * @param entry the entry that was added
+         */
+        void recordInsertion(Entry entry);
+
+        /**
+         * Records the removal of an entry, whether explicit or by eviction.
+         *
+         * @param entry the entry that was removed
+         */
+        void recordRemoval(Entry entry);
+
+        /**
+         * Chooses the entry to evict from a map that holds one entry too many.
+         *
+         * @return the entry to evict
+         */
+        Entry selectVictim();
+    }
+
+    /**
+     * This class implements an intrusive doubly linked list of entries, ordered
+     * from most recently used (head) to least recently used (tail).
+     */
+    private static final class AccessOrderList {
+        private Entry head; // The most recently used entry
+        private Entry tail; // The least recently used entry
+        private int size; // The number of entries in the list
+
+        /**
+         * Adds an entry at the most recently used end.
+         *
+         * @param entry the entry to add; must not be in any list
+         */
+        public void addFirst(Entry entry) {
+            entry.list = this;
+            entry.prev = null;
+            entry.next = head;
+            if (head == null)
+                tail = entry;
+            else
+                head.prev = entry;
+            head = entry;
+            size++;
+        }
+
+        /**
+         * Removes an entry from this list.
+         *
+         * @param entry the entry to remove; must be in this list
+         */
+        public void remove(Entry entry) {
+            if (entry.prev == null)
+                head = entry.next;
+            else
+                entry.prev.next = entry.next;
+
+            if (entry.next == null)
+                tail = entry.prev;
+            else
+                entry.next.prev = entry.prev;
+
+            entry.prev = entry.next = null;
+            entry.list = null;
+            size--;
+        }
+
+        /**
+         * Moves an entry of this list to the most recently used end.
+         *
+         * @param entry the entry to move; must be in this list
+         */
+        public void moveToFront(Entry entry) {
+            if (head == entry)
+                return;
+
+            remove(entry);
+            addFirst(entry);
+        }
+    }
+
+    /**
+     * This class implements least-recently-used eviction with a single
+     * access-order list.
+     */
+    public static final class Lru implements EvictionPolicy {
+        private final AccessOrderList order = new AccessOrderList(); // Entries by recency
+
+        @Override
+        public void initialize(int maximumSize) {
+        }
+
+        @Override
+        public void recordAccess(Entry entry) {
+            order.moveToFront(entry);
+        }
+
+        @Override
+        public void recordMiss(int key) {
+        }
+
+        @Override
+        public void recordInsertion(Entry entry) {
+            order.addFirst(entry);
+        }
+
+        @Override
+        public void recordRemoval(Entry entry) {
+            order.remove(entry);
+        }
+
+        @Override
+        public Entry selectVictim() {
+            return order.tail;
+        }
+    }
+
+    /**
+     * This class implements the W-TinyLFU eviction policy.
+     * New entries enter a small LRU window. An entry pushed out of the window
+     * becomes a candidate for the main segmented LRU, and is only admitted if
+     * a count-min sketch estimates it to be used more often than the entry it
+     * would replace. Entries accessed again while on probation are promoted to
+     * the protected segment.
+     */
+    public static final class WindowTinyLfu implements EvictionPolicy {
+        private static final int SKETCH_DEPTH = 4; // Number of hash rows in the sketch
+        private static final int MAX_FREQUENCY = 15; // Saturation value of a sketch counter
+        private static final int MAX_SKETCH_WIDTH = 1 << 24; // Largest sketch row, in counters
+        private static final int[] SEEDS = { 0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F }; // Row hash seeds
+
+        private final AccessOrderList window = new AccessOrderList(); // Recently added entries
+        private final AccessOrderList probation = new AccessOrderList(); // Main entries seen once
+        private final AccessOrderList protectedList = new AccessOrderList(); // Main entries seen again
+        private int windowMaximum; // Maximum size of the window
+        private int protectedMaximum; // Maximum size of the protected segment
+        private Entry candidate; // The entry most recently pushed out of the window
+
+        private byte[] sketch; // The count-min sketch counters, row after row
+        private int sketchMask; // Width of a sketch row - 1
+        private int additions; // Increments since the sketch was last halved
+        private int sampleSize; // Increments after which the sketch is halved
+        private int missedKey; // The key of the last recorded miss
+        private boolean pendingMiss; // Whether missedKey is still awaiting its insertion
+
+        @Override
+        public void initialize(int maximumSize) {
+            windowMaximum = Math.max(1, maximumSize / 100);
+            protectedMaximum = (int) ((maximumSize - windowMaximum) * 0.8);
+
+            var width = 16;
+            while (width < maximumSize && width < MAX_SKETCH_WIDTH)
+                width <<= 1;
+            sketch = new byte[SKETCH_DEPTH * width];
+            sketchMask = width - 1;
+            sampleSize = (int) Math.min(10L * Math.max(maximumSize, 16), Integer.MAX_VALUE);
+        }
+
+        @Override
+        public void recordAccess(Entry entry) {
+            pendingMiss = false;
+            increment(entry.key);
+
+            if (entry.list == probation) {
+                probation.remove(entry);
+                protectedList.addFirst(entry);
+                // Keep the protected segment bounded by demoting its oldest entry
+                if (protectedList.size > protectedMaximum) {
+                    var demoted = protectedList.tail;
+                    protectedList.remove(demoted);
+                    probation.addFirst(demoted);
+                }
+            } else {
+                entry.list.moveToFront(entry);
+            }
+        }
+
+        @Override
+        public void recordMiss(int key) {
+            missedKey = key;
+            pendingMiss = true;
+            increment(key);
+        }
+
+        @Override
+        public void recordInsertion(Entry entry) {
+            // A get miss followed by a put of the same key is one access, already counted
+            if (!pendingMiss || missedKey != entry.key)
+                increment(entry.key);
+            pendingMiss = false;
+
+            window.addFirst(entry);
+            if (window.size > windowMaximum) {
+                candidate = window.tail;
+                window.remove(candidate);
+                probation.addFirst(candidate);
+            }
+        }
+
+        @Override
+        public void recordRemoval(Entry entry) {
+            if (entry == candidate)
+                candidate = null;
+
+            entry.list.remove(entry);
+        }
+
+        @Override
+        public Entry selectVictim() {
+            var victim = probation.tail;
+            if (victim == candidate)
+                victim = (protectedList.tail != null) ? protectedList.tail : window.tail;
+
+            var contender = candidate;
+            candidate = null;
+            if (contender == null || victim == null)
+                return (victim != null) ? victim : contender;
+
+            // Admit the candidate only if it is used more often than the victim
+            return (frequency(contender.key) > frequency(victim.key)) ? victim : contender;
+        }
+
+        /**
+         * Returns the sketch index of a key in the given row.
+         *
+         * @param key the key to be hashed
+         * @param row the sketch row
+         * @return the index of the key's counter in that row
+         */
+        private int index(int key, int row) {
+            var h = key * SEEDS[row];
+            h ^= h >>> 16;
+            return row * (sketchMask + 1) + (h & sketchMask);
+        }
+
+        /**
+         * Returns the estimated access frequency of a key.
+         *
+         * @param key the key to look up
+         * @return the smallest of the key's counters
+         */
+        private int frequency(int key) {
+            var frequency = MAX_FREQUENCY;
+            for (var row = 0; row < SKETCH_DEPTH; row++)
+                frequency = Math.min(frequency, sketch[index(key, row)]);
+
+            return frequency;
+        }
+
+        /**
+         * Increments the counters of a key, halving every counter once enough
+         * increments have been recorded so that old popularity fades.
+         *
+         * @param key the key that was used
+         */
+        private void increment(int key) {
+            for (var row = 0; row < SKETCH_DEPTH; row++) {
+                var index = index(key, row);
+                if (sketch[index] < MAX_FREQUENCY)
+                    sketch[index]++;
+            }
+
+            if (++additions == sampleSize) {
+                for (var i = 0; i < sketch.length; i++)
+                    sketch[i] >>= 1;
+                additions /= 2;
+            }
+        }
+    }
+
+    private final Entry[] buckets; // The bucket chains, sized for the maximum
+    private final int mask; // buckets.length - 1
+    private final int maximumSize; // The maximum number of entries
+    private final EvictionPolicy policy; // Chooses entries to evict
+    private int size; // The number of entries in the map
+    private long hitCount; // Lookups that found their key
+    private long missCount; // Lookups that did not find their key
+    private long evictionCount; // Entries removed to make room
+
+    /**
+     * Constructs an empty map with LRU eviction.
+     *
+     * @param maximumSize the maximum number of entries
+     */
+    public BoundedHashMap(int maximumSize) {
+        this(maximumSize, new Lru());
+    }
+
+    /**
+     * Constructs an empty map with the given eviction policy.
+     * The policy must not be shared with another map.
+     *
+     * @param maximumSize the maximum number of entries
+     * @param policy      the policy choosing which entries to evict
+     * @throws IllegalArgumentException if the maximum size is not positive
+     */
+    public BoundedHashMap(int maximumSize, EvictionPolicy policy) {
+        if (maximumSize <= 0 || maximumSize > 1 << 30)
+            throw new IllegalArgumentException("Maximum size must be between 1 and 2^30.");
+
+        var capacity = 1;
+        while (capacity < maximumSize)
+            capacity <<= 1;
+
+        this.buckets = new Entry[capacity];
+        this.mask = capacity - 1;
+        this.maximumSize = maximumSize;
+        this.policy = policy;
+        policy.initialize(maximumSize);
+    }
+
+    /**
+     * Computes the bucket of a key.
+     *
+     * @param key the key to be hashed
+     * @return the bucket index of the key
+     */
+    private int hash(int key) {
+        var h = key * 0x9E3779B9; // Fibonacci multiplier
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    /**
+     * Associates the specified value with the specified key in this map.
+     * If the map previously contained a mapping for the key, the old value is
+     * replaced; otherwise an entry may be evicted to stay within the maximum
+     * size.
+     *
+     * @param key   the key with which the specified value is to be associated
+     * @param value the value to be associated with the specified key
+     */
+    public void put(int key, String value) {
+        var entry = getEntry(key);
+        if (entry != null) {
+            entry.value = value;
+            policy.recordAccess(entry);
+            return;
+        }
+
+        entry = new Entry(key, value);
+        var index = hash(key);
+        entry.chainNext = buckets[index];
+        buckets[index] = entry;
+        size++;
+        policy.recordInsertion(entry);
+
+        if (size > maximumSize) {
+            removeEntry(policy.selectVictim());
+            evictionCount++;
+        }
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped,
+     * or null if this map contains no mapping for the key.
+     * The lookup is counted as a hit or a miss.
+     *
+     * @param key the key whose associated value is to be returned
+     * @return the value to which the specified key is mapped, or null if this map
+     *         contains no mapping for the key
+     */
+    public String get(int key) {
+        var entry = getEntry(key);
+
+        if (entry == null) {
+            missCount++;
+            policy.recordMiss(key);
+            return null;
+        }
+
+        hitCount++;
+        policy.recordAccess(entry);
+        return entry.value;
+    }
+
+    /**
+     * Checks if this map contains a mapping for the specified key, without
+     * counting it as an access.
+     *
+     * @param key the key to look for
+     * @return true if the key is present, false otherwise
+     */
+    public boolean containsKey(int key) {
+        return getEntry(key) != null;
+    }
+
+    /**
+     * Removes the mapping for a key from this map if it is present.
+     *
+     * @param key the key whose mapping is to be removed from the map
+     * @return true if a mapping was removed, false if the key was absent
+     */
+    public boolean remove(int key) {
+        var entry = getEntry(key);
+
+        if (entry == null)
+            return false;
+
+        removeEntry(entry);
+        return true;
+    }
+
+    /**
+     * Returns the number of entries in this map.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of lookups that found their key.
+     *
+     * @return the hit count
+     */
+    public long hitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of lookups that did not find their key.
+     *
+     * @return the miss count
+     */
+    public long missCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns the number of entries evicted to make room for new ones.
+     *
+     * @return the eviction count
+     */
+    public long evictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Returns the fraction of lookups that found their key.
+     *
+     * @return the hit rate, or 0 if no lookup has been made
+     */
+    public double hitRate() {
+        var lookups = hitCount + missCount;
+        return (lookups == 0) ? 0 : (double) hitCount / lookups;
+    }
+
+    /**
+     * Returns the Entry associated with the specified key, or null if no such entry
+     * exists.
+     *
+     * @param key the key whose associated Entry is to be returned
+     * @return the Entry associated with the specified key, or null if no such entry
+     *         exists
+     */
+    private Entry getEntry(int key) {
+        for (var entry = buckets[hash(key)]; entry != null; entry = entry.chainNext) {
+            if (entry.key == key)
+                return entry;
+        }
+
+        return null;
+    }
+
+    /**
+     * Unlinks an entry from its bucket and from the eviction policy.
+     *
+     * @param entry the entry to remove
+     */
+    private void removeEntry(Entry entry) {
+        var index = hash(entry.key);
+        if (buckets[index] == entry) {
+            buckets[index] = entry.chainNext;
+        } else {
+            var previous = buckets[index];
+            while (previous.chainNext != entry)
+                previous = previous.chainNext;
+            previous.chainNext = entry.chainNext;
+        }
+
+        entry.chainNext = null;
+        size--;
+        policy.recordRemoval(entry);
+    }
+
+    /**
+     * Main method to test the BoundedHashMap implementation with sample
+     * operations.
+     *
+     * @param args command line arguments (not used)
+     */
+    public static void main(String[] args) {
+        var lru = new BoundedHashMap(2);
+        lru.put(1, "A");
+        lru.put(2, "B");
+        lru.get(1); // 1 is now more recently used than 2
+        lru.put(3, "C");
+
+        System.out.println(lru.get(2)); // Output: null
+        System.out.println(lru.get(1)); // Output: A
+        System.out.println(lru.remove(42)); // Output: false
+        System.out.println(lru.evictionCount()); // Output: 1
+
+        // A skewed workload: a few hot keys and a long tail of one-off keys
+        var random = new Random(42);
+        var tinyLfu = new BoundedHashMap(100, new WindowTinyLfu());
+        var plainLru = new BoundedHashMap(100, new Lru());
+        for (var i = 0; i < 100_000; i++) {
+            var key = random.nextInt(4) == 0 ? 1_000 + random.nextInt(1_000_000) : random.nextInt(100);
+            for (var map : new BoundedHashMap[] { tinyLfu, plainLru }) {
+                if (map.get(key) == null)
+                    map.put(key, "V" + key);
+            }
+        }
+
+        System.out.printf("LRU hit rate: %.2f%n", plainLru.hitRate()); // Output: LRU hit rate: 0.49
+        System.out.printf("W-TinyLFU hit rate: %.2f%n", tinyLfu.hitRate()); // Output: W-TinyLFU hit rate: 0.71
+    }
+}
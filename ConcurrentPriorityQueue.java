@@ -0,0 +1,333 @@
+package DataStructuresAndAlgorithms;
+
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * This class implements a thread-safe priority queue for many producers and
+ * consumers, in one of two modes.
+ * As in {@link PriorityQueue}, the highest value has the highest priority.
+ *
+ * A strict queue always removes the highest item. It is a lock-free skip
+ * list ordered by item and insertion sequence, so equal items leave in the
+ * order they arrived; every remove still competes for the same end of the
+ * list.
+ *
+ * A relaxed queue is a MultiQueue: a set of {@link HeapPriorityQueue}
+ * sub-queues, each behind its own lock. Add locks a random sub-queue, and
+ * remove looks at the tops of two random sub-queues and takes the higher.
+ * Threads rarely meet on the same lock, so throughput keeps growing with
+ * the thread count, at the price of sometimes removing an item that is
+ * close to, but not exactly, the highest one.
+ */
+public class ConcurrentPriorityQueue {
+    private static final long EMPTY = Long.MIN_VALUE; // Top of an empty sub-queue, below every item
+    private static final int QUEUES_PER_THREAD = 2; // Sub-queues per available processor by default
+    private static final int REMOVE_ATTEMPTS = 8; // Two-choice attempts before scanning every sub-queue
+
+    /**
+     * This class represents one item of a strict queue, paired with its
+     * insertion sequence so that equal items stay distinct and ordered.
+     */
+    private static class Entry implements Comparable<Entry> {
+        private final int item; // The queued item
+        private final long sequence; // The insertion sequence of the item
+
+        /**
+         * Constructs an entry.
+         *
+         * @param item     the queued item
+         * @param sequence the insertion sequence of the item
+         */
+        public Entry(int item, long sequence) {
+            this.item = item;
+            this.sequence = sequence;
+        }
+
+        /**
+         * Orders entries by item, and equal items by descending sequence, so
+         * the last entry is the highest item that arrived first.
+         *
+         * @param other the entry to compare with
+         * @return a negative, zero or positive number as this entry sorts
+         *         before, with or after the other
+         */
+        @Override
+        public int compareTo(Entry other) {
+            var order = Integer.compare(item, other.item);
+
+            return (order != 0) ? order : Long.compare(other.sequence, sequence);
+        }
+    }
+
+    /**
+     * This class represents one sub-queue of a relaxed queue: a heap whose
+     * readers and writers hold the sub-queue lock, and whose highest item is
+     * published for lock-free peeking.
+     */
+    private static class SubQueue {
+        private final ReentrantLock lock = new ReentrantLock(); // Guards the heap
+        private final HeapPriorityQueue heap = new HeapPriorityQueue(); // The items of this sub-queue
+        private volatile long top = EMPTY; // The highest item, or EMPTY
+
+        /**
+         * Adds an item. The lock must be held.
+         *
+         * @param item the item to add
+         */
+        public void add(int item) {
+            heap.add(item);
+            if (item > top)
+                top = item;
+        }
+
+        /**
+         * Removes the highest item. The lock must be held and the sub-queue
+         * must not be empty.
+         *
+         * @return the highest item
+         */
+        public int remove() {
+            var item = heap.remove();
+            top = heap.isEmpty() ? EMPTY : heap.peek();
+
+            return item;
+        }
+    }
+
+    private final ConcurrentSkipListSet<Entry> ordered; // Strict mode: the items with their sequences
+    private final AtomicLong sequence; // Strict mode: insertion counter breaking ties
+    private final SubQueue[] queues; // Relaxed mode: the sub-queues
+    private final LongAdder size = new LongAdder(); // The number of items in the queue
+
+    /**
+     * Constructs an empty relaxed queue with two sub-queues per available
+     * processor.
+     */
+    public ConcurrentPriorityQueue() {
+        this(false);
+    }
+
+    /**
+     * Constructs an empty queue in the given mode. A relaxed queue has two
+     * sub-queues per available processor.
+     *
+     * @param strict true to always remove the highest item, false to trade
+     *               exact order for throughput
+     */
+    public ConcurrentPriorityQueue(boolean strict) {
+        this(strict, QUEUES_PER_THREAD * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs an empty relaxed queue with the given number of sub-queues.
+     * More sub-queues mean less contention but a looser order.
+     *
+     * @param subQueues the number of sub-queues, at least 2
+     * @throws IllegalArgumentException if there are fewer than 2 sub-queues
+     */
+    public ConcurrentPriorityQueue(int subQueues) {
+        this(false, subQueues);
+    }
+
+    /**
+     * Constructs an empty queue in the given mode.
+     *
+     * @param strict    true to always remove the highest item
+     * @param subQueues the number of sub-queues of a relaxed queue
+     * @throws IllegalArgumentException if a relaxed queue has fewer than 2
+     *                                  sub-queues
+     */
+    private ConcurrentPriorityQueue(boolean strict, int subQueues) {
+        if (strict) {
+            ordered = new ConcurrentSkipListSet<>();
+            sequence = new AtomicLong();
+            queues = null;
+            return;
+        }
+
+        if (subQueues < 2)
+            throw new IllegalArgumentException("A relaxed queue needs at least 2 sub-queues.");
+
+        ordered = null;
+        sequence = null;
+        queues = new SubQueue[subQueues];
+        for (var i = 0; i < subQueues; i++)
+            queues[i] = new SubQueue();
+    }
+
+    /**
+     * Adds an item to the queue.
+     *
+     * @param item the item to be added
+     */
+    public void add(int item) {
+        if (ordered != null) {
+            ordered.add(new Entry(item, sequence.getAndIncrement()));
+        } else {
+            var queue = lockRandomQueue();
+            try {
+                queue.add(item);
+            } finally {
+                queue.lock.unlock();
+            }
+        }
+
+        size.increment();
+    }
+
+    /**
+     * Locks a random sub-queue, trying others while the chosen ones are busy.
+     *
+     * @return the locked sub-queue
+     */
+    private SubQueue lockRandomQueue() {
+        var random = ThreadLocalRandom.current();
+        for (var attempt = 0; attempt < queues.length; attempt++) {
+            var queue = queues[random.nextInt(queues.length)];
+            if (queue.lock.tryLock())
+                return queue;
+        }
+
+        var queue = queues[random.nextInt(queues.length)];
+        queue.lock.lock();
+        return queue;
+    }
+
+    /**
+     * Removes and returns an item with the highest priority. A relaxed queue
+     * may return an item slightly below the highest one.
+     *
+     * @return the removed item
+     * @throws IllegalStateException if the queue is empty
+     */
+    public int remove() {
+        var item = (ordered != null) ? removeStrict() : removeRelaxed();
+        size.decrement();
+
+        return item;
+    }
+
+    /**
+     * Removes the highest item of the skip list.
+     *
+     * @return the highest item
+     * @throws IllegalStateException if the queue is empty
+     */
+    private int removeStrict() {
+        var entry = ordered.pollLast();
+        if (entry == null)
+            throw new IllegalStateException("Queue is empty.");
+
+        return entry.item;
+    }
+
+    /**
+     * Removes the higher top of two random sub-queues, falling back to a scan
+     * of every sub-queue when the random picks keep coming up empty or busy.
+     *
+     * @return the removed item
+     * @throws IllegalStateException if every sub-queue is empty
+     */
+    private int removeRelaxed() {
+        var random = ThreadLocalRandom.current();
+        for (var attempt = 0; attempt < REMOVE_ATTEMPTS; attempt++) {
+            var first = queues[random.nextInt(queues.length)];
+            var second = queues[random.nextInt(queues.length)];
+            var queue = (first.top >= second.top) ? first : second;
+            if (queue.top == EMPTY || !queue.lock.tryLock())
+                continue;
+
+            try {
+                if (queue.top != EMPTY)
+                    return queue.remove();
+            } finally {
+                queue.lock.unlock();
+            }
+        }
+
+        // Scan from a random start so no sub-queue is favoured
+        var start = random.nextInt(queues.length);
+        for (var i = 0; i < queues.length; i++) {
+            var queue = queues[(start + i) % queues.length];
+            if (queue.top == EMPTY)
+                continue;
+
+            queue.lock.lock();
+            try {
+                if (queue.top != EMPTY)
+                    return queue.remove();
+            } finally {
+                queue.lock.unlock();
+            }
+        }
+
+        throw new IllegalStateException("Queue is empty.");
+    }
+
+    /**
+     * Checks if the queue is strict.
+     *
+     * @return true if the queue always removes the highest item
+     */
+    public boolean isStrict() {
+        return ordered != null;
+    }
+
+    /**
+     * Returns the number of items in the queue.
+     * While other threads are active the result is only an estimate.
+     *
+     * @return the number of items
+     */
+    public int size() {
+        return size.intValue();
+    }
+
+    /**
+     * Checks if the queue is empty.
+     * While other threads are active the result is only an estimate.
+     *
+     * @return true if the queue is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Main method to test the ConcurrentPriorityQueue implementation.
+     *
+     * @param args command line arguments
+     */
+    public static void main(String[] args) throws InterruptedException {
+        var strict = new ConcurrentPriorityQueue(true);
+        var relaxed = new ConcurrentPriorityQueue(8);
+
+        // Four producers add 10,000 items each to both queues
+        var threads = new Thread[4];
+        for (var t = 0; t < threads.length; t++) {
+            var offset = t;
+            threads[t] = new Thread(() -> {
+                for (var i = offset; i < 40_000; i += 4) {
+                    strict.add(i);
+                    relaxed.add(i);
+                }
+            });
+            threads[t].start();
+        }
+        for (var thread : threads)
+            thread.join();
+
+        System.out.println(strict.size()); // Output: 40000
+        System.out.println(strict.remove()); // Output: 39999
+        System.out.println(strict.remove()); // Output: 39998
+
+        // The relaxed queue returns items near the top, not always the top
+        var item = relaxed.remove();
+        System.out.println(item > 39_000); // Output: true
+        System.out.println(relaxed.size()); // Output: 39999
+    }
+}
@@ -6,6 +6,8 @@ import java.util.LinkedList;
  * This class implements a simple hash map using separate chaining to handle
  * collisions.
  * The hash map associates integer keys with string values.
+ * When the table fills up it doubles in size, migrating a few buckets on each
+ * put, get and remove (incremental rehashing) instead of all at once.
  */
 public class HashMap {
     /**
@@ -27,16 +29,37 @@ public class HashMap {
         }
     }
 
-    private LinkedList<Entry>[] entries = new LinkedList[5]; // An array of linked lists to store entries
+    private static final int INITIAL_CAPACITY = 5; // Number of buckets in a new map
+    private static final int LOAD_FACTOR = 1; // Entries per bucket before the table doubles
+    private static final int REHASH_BUCKETS = 4; // Non-empty buckets migrated per operation
+    private static final int REHASH_EMPTY_VISITS = REHASH_BUCKETS * 10; // Cap on empty buckets skipped per operation
+
+    private LinkedList<Entry>[] entries = newTable(INITIAL_CAPACITY); // An array of linked lists to store entries
+    private LinkedList<Entry>[] rehashEntries; // The table being migrated into, or null when not rehashing
+    private int rehashIndex = -1; // The next bucket of entries to migrate, or -1 when not rehashing
+    private int size; // The number of entries in the map
+
+    /**
+     * Allocates an empty table with the given number of buckets.
+     *
+     * @param capacity the number of buckets
+     * @return the new table
+     */
+    @SuppressWarnings("unchecked")
+    private static LinkedList<Entry>[] newTable(int capacity) {
+        return (LinkedList<Entry>[]) new LinkedList<?>[capacity];
+    }
 
     /**
-     * Computes the hash of a key.
+     * Computes the hash of a key for the given table.
+     * The result is never negative, so negative keys are supported.
      *
-     * @param key the key to be hashed
+     * @param key   the key to be hashed
+     * @param table the table the hash indexes into
      * @return the hash value of the key
      */
-    private int hash(int key) {
-        return key % entries.length;
+    private int hash(int key, LinkedList<Entry>[] table) {
+        return Math.floorMod(key, table.length);
     }
 
     /**
@@ -48,13 +71,21 @@ public class HashMap {
      * @param value the value to be associated with the specified key
      */
     public void put(int key, String value) {
+        rehashStep();
+
         var entry = getEntry(key);
         if (entry != null) {
             entry.value = value;
             return;
         }
 
-        getOrCreateBucket(key).addLast(new Entry(key, value));
+        // While rehashing, new entries only go to the new table
+        var table = isRehashing() ? rehashEntries : entries;
+        getOrCreateBucket(table, key).addLast(new Entry(key, value));
+        size++;
+
+        if (!isRehashing() && size > entries.length * LOAD_FACTOR)
+            startRehash(entries.length * 2);
     }
 
     /**
@@ -66,6 +97,8 @@ public class HashMap {
      *         contains no mapping for the key
      */
     public String get(int key) {
+        rehashStep();
+
         var entry = getEntry(key);
 
         return (entry == null) ? null : entry.value;
@@ -78,24 +111,53 @@ public class HashMap {
      * @throws IllegalStateException if the specified key is not present in the map
      */
     public void remove(int key) {
-        var entry = getEntry(key);
+        rehashStep();
 
-        if (entry == null)
-            throw new IllegalStateException("Invalid key removal");
+        if (removeEntry(entries, key) || (isRehashing() && removeEntry(rehashEntries, key))) {
+            size--;
+            return;
+        }
+
+        throw new IllegalStateException("Invalid key removal");
+    }
 
-        getBucket(key).remove(entry);
+    /**
+     * Returns the number of entries in this map.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return size;
     }
 
     /**
      * Returns the Entry associated with the specified key, or null if no such entry
-     * exists.
+     * exists. Both tables are searched while a rehash is in progress.
      *
      * @param key the key whose associated Entry is to be returned
      * @return the Entry associated with the specified key, or null if no such entry
      *         exists
      */
     private Entry getEntry(int key) {
-        var bucket = getBucket(key);
+        var entry = getEntry(entries, key);
+
+        if (entry == null && isRehashing())
+            entry = getEntry(rehashEntries, key);
+
+        return entry;
+    }
+
+    /**
+     * Returns the Entry associated with the specified key in the given table, or
+     * null if no such entry exists.
+     *
+     * @param table the table to search
+     * @param key   the key whose associated Entry is to be returned
+     * @return the Entry associated with the specified key, or null if no such entry
+     *         exists
+     */
+    private Entry getEntry(LinkedList<Entry>[] table, int key) {
+        var bucket = getBucket(table, key);
 
         if (bucket != null) {
             for (var entry : bucket) {
@@ -108,31 +170,103 @@ public class HashMap {
     }
 
     /**
-     * Returns the bucket (LinkedList of Entries) associated with the specified key.
+     * Removes the Entry associated with the specified key from the given table.
      *
-     * @param key the key whose associated bucket is to be returned
+     * @param table the table to remove from
+     * @param key   the key whose associated Entry is to be removed
+     * @return true if an entry was removed, false otherwise
+     */
+    private boolean removeEntry(LinkedList<Entry>[] table, int key) {
+        var entry = getEntry(table, key);
+
+        if (entry == null)
+            return false;
+
+        getBucket(table, key).remove(entry);
+        return true;
+    }
+
+    /**
+     * Returns the bucket (LinkedList of Entries) associated with the specified key
+     * in the given table.
+     *
+     * @param table the table holding the bucket
+     * @param key   the key whose associated bucket is to be returned
      * @return the bucket associated with the specified key, or null if no such
      *         bucket exists
      */
-    private LinkedList<Entry> getBucket(int key) {
-        return entries[hash(key)];
+    private LinkedList<Entry> getBucket(LinkedList<Entry>[] table, int key) {
+        return table[hash(key, table)];
     }
 
     /**
      * Returns or creates the bucket (LinkedList of Entries) associated with the
-     * specified key.
+     * specified key in the given table.
      *
-     * @param key the key whose associated bucket is to be returned or created
+     * @param table the table holding the bucket
+     * @param key   the key whose associated bucket is to be returned or created
      * @return the bucket associated with the specified key, creating a new bucket
      *         if necessary
      */
-    private LinkedList<Entry> getOrCreateBucket(int key) {
-        var index = hash(key);
+    private LinkedList<Entry> getOrCreateBucket(LinkedList<Entry>[] table, int key) {
+        var index = hash(key, table);
+
+        if (table[index] == null)
+            table[index] = new LinkedList<>();
 
-        if (entries[index] == null)
-            entries[index] = new LinkedList<>();
+        return table[index];
+    }
 
-        return entries[index];
+    /**
+     * Checks if a rehash is in progress.
+     *
+     * @return true if entries are being migrated to a new table, false otherwise
+     */
+    private boolean isRehashing() {
+        return rehashIndex >= 0;
+    }
+
+    /**
+     * Allocates the new table and begins migrating entries into it.
+     * The migration itself is spread over subsequent operations.
+     *
+     * @param capacity the number of buckets in the new table
+     */
+    private void startRehash(int capacity) {
+        rehashEntries = newTable(capacity);
+        rehashIndex = 0;
+    }
+
+    /**
+     * Migrates a bounded number of buckets from the old table to the new one,
+     * so that no single operation pays for rehashing the whole map.
+     * Once every bucket has been moved, the new table replaces the old one.
+     */
+    private void rehashStep() {
+        if (!isRehashing())
+            return;
+
+        var moved = 0;
+        var visited = 0;
+        while (rehashIndex < entries.length && moved < REHASH_BUCKETS && visited < REHASH_EMPTY_VISITS) {
+            var bucket = entries[rehashIndex];
+            entries[rehashIndex++] = null;
+
+            if (bucket == null) {
+                visited++;
+                continue;
+            }
+
+            for (var entry : bucket)
+                getOrCreateBucket(rehashEntries, entry.key).addLast(entry);
+            moved++;
+        }
+
+        if (rehashIndex == entries.length) {
+            entries = rehashEntries;
+            rehashEntries = null;
+            rehashIndex = -1;
+        }
     }
 
     /**
@@ -152,9 +286,17 @@ public class HashMap {
 
         map.remove(6);
 
+        // Grow through several incremental rehashes, including negative keys
+        for (var i = -500; i < 500; i++)
+            map.put(i, "V" + i);
+
+        System.out.println(map.size()); // Output: 1000
+        System.out.println(map.get(-250)); // Output: V-250
+        System.out.println(map.get(11)); // Output: V11
+
         // Attempt to remove a key that doesn't exist
         try {
-            map.remove(60);
+            map.remove(600);
         } catch (IllegalStateException e) {
             System.out.println(e.getMessage()); // Output: Invalid key removal
         }
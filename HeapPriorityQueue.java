@@ -0,0 +1,250 @@
+package DataStructuresAndAlgorithms;
+
+import java.util.Arrays;
+
+/**
+ * This class implements a priority queue as an implicit d-ary max-heap in a
+ * growable array.
+ * Like {@link PriorityQueue}, the highest value has the highest priority, but
+ * instead of keeping the array sorted, which costs O(n) shifts per insert,
+ * the array only keeps every node at least as large as its children:
+ * add and remove cost O(log n) and the array doubles when it is full.
+ * Each node has a configurable number of children; a 4-ary heap is half as
+ * deep as a binary one and keeps a node's children in one cache line.
+ */
+public class HeapPriorityQueue {
+    private static final int DEFAULT_ARITY = 4; // Children per node
+    private static final int DEFAULT_CAPACITY = 16; // Items held before the first growth
+
+    private final int arity; // Children per node
+    private int[] items; // The heap: the children of i are at arity * i + 1 ... arity * i + arity
+    private int count; // Current number of elements in the queue
+
+    /**
+     * Constructs an empty 4-ary heap.
+     */
+    public HeapPriorityQueue() {
+        this(DEFAULT_ARITY);
+    }
+
+    /**
+     * Constructs an empty heap with the given number of children per node.
+     *
+     * @param arity the number of children per node, at least 2
+     */
+    public HeapPriorityQueue(int arity) {
+        this(arity, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty heap with the given number of children per node,
+     * able to hold the given number of items before growing.
+     *
+     * @param arity    the number of children per node, at least 2
+     * @param capacity the number of items expected
+     * @throws IllegalArgumentException if the arity is below 2 or the capacity
+     *                                  is negative
+     */
+    public HeapPriorityQueue(int arity, int capacity) {
+        if (arity < 2)
+            throw new IllegalArgumentException("Arity must be at least 2.");
+        if (capacity < 0)
+            throw new IllegalArgumentException("Capacity can't be negative.");
+
+        this.arity = arity;
+        this.items = new int[Math.max(capacity, 1)];
+    }
+
+    /**
+     * Builds a 4-ary heap holding the given items in O(n), faster than
+     * adding them one at a time. The array is copied, not modified.
+     *
+     * @param items the items to add
+     * @return a queue holding all the items
+     */
+    public static HeapPriorityQueue heapify(int[] items) {
+        return heapify(items, DEFAULT_ARITY);
+    }
+
+    /**
+     * Builds a heap holding the given items in O(n), faster than adding them
+     * one at a time. The array is copied, not modified.
+     *
+     * @param items the items to add
+     * @param arity the number of children per node, at least 2
+     * @return a queue holding all the items
+     */
+    public static HeapPriorityQueue heapify(int[] items, int arity) {
+        var queue = new HeapPriorityQueue(arity, items.length);
+        System.arraycopy(items, 0, queue.items, 0, items.length);
+        queue.count = items.length;
+
+        // Sift down every parent, from the last one up to the root
+        for (var i = (items.length - 2) / arity; i >= 0; i--)
+            queue.siftDown(i, queue.items[i]);
+
+        return queue;
+    }
+
+    /**
+     * Adds an item to the queue, growing the heap if needed - O(log n).
+     *
+     * @param item the item to be added
+     * @throws IllegalStateException if the queue can't grow any further
+     */
+    public void add(int item) {
+        if (count == items.length)
+            grow();
+
+        siftUp(count++, item);
+    }
+
+    /**
+     * Removes and returns the item with the highest priority (highest value)
+     * - O(log n).
+     *
+     * @return the item with the highest priority
+     * @throws IllegalStateException if the queue is empty
+     */
+    public int remove() {
+        if (isEmpty())
+            throw new IllegalStateException("Queue is empty.");
+
+        var top = items[0];
+        var last = items[--count];
+        if (count > 0)
+            siftDown(0, last);
+
+        return top;
+    }
+
+    /**
+     * Returns the item with the highest priority without removing it.
+     *
+     * @return the item with the highest priority
+     * @throws IllegalStateException if the queue is empty
+     */
+    public int peek() {
+        if (isEmpty())
+            throw new IllegalStateException("Queue is empty.");
+
+        return items[0];
+    }
+
+    /**
+     * Returns the number of items in the queue.
+     *
+     * @return the number of items
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return true if the queue is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * Moves an item up from a hole towards the root until its parent is at
+     * least as large, and stores it there.
+     *
+     * @param hole the index the item starts at
+     * @param item the item being placed
+     */
+    private void siftUp(int hole, int item) {
+        while (hole > 0) {
+            var parent = (hole - 1) / arity;
+            if (items[parent] >= item)
+                break;
+
+            items[hole] = items[parent];
+            hole = parent;
+        }
+
+        items[hole] = item;
+    }
+
+    /**
+     * Moves an item down from a hole, swapping in its largest child, until no
+     * child is larger, and stores it there.
+     *
+     * @param hole the index the item starts at
+     * @param item the item being placed
+     */
+    private void siftDown(int hole, int item) {
+        while (true) {
+            var first = hole * arity + 1;
+            if (first >= count)
+                break;
+
+            // Find the largest child
+            var largest = first;
+            var end = Math.min(first + arity, count);
+            for (var child = first + 1; child < end; child++) {
+                if (items[child] > items[largest])
+                    largest = child;
+            }
+
+            if (items[largest] <= item)
+                break;
+
+            items[hole] = items[largest];
+            hole = largest;
+        }
+
+        items[hole] = item;
+    }
+
+    /**
+     * Doubles the length of the heap array.
+     */
+    private void grow() {
+        var capacity = items.length * 2;
+        if (capacity < 0)
+            throw new IllegalStateException("Queue is full.");
+
+        items = Arrays.copyOf(items, capacity);
+    }
+
+    /**
+     * Returns a string representation of the queue, in heap order.
+     *
+     * @return a string representation of the queue
+     */
+    @Override
+    public String toString() {
+        var content = Arrays.copyOfRange(items, 0, count);
+        return Arrays.toString(content);
+    }
+
+    /**
+     * Main method to test the HeapPriorityQueue implementation with sample
+     * operations.
+     *
+     * @param args command line arguments (not used)
+     */
+    public static void main(String[] args) {
+        var queue = new HeapPriorityQueue(2);
+
+        queue.add(5);
+        queue.add(3);
+        queue.add(6);
+        queue.add(1);
+        queue.add(4);
+        queue.add(2); // A sixth item grows the heap instead of failing
+
+        System.out.println(queue); // Output: [6, 4, 5, 1, 3, 2]
+        System.out.println(queue.remove()); // Output: 6
+        System.out.println(queue.remove()); // Output: 5
+        System.out.println(queue.size()); // Output: 4
+
+        var heap = HeapPriorityQueue.heapify(new int[] { 7, 2, 9, 4, 8 });
+        while (!heap.isEmpty())
+            System.out.println(heap.remove()); // Output: 9 8 7 4 2
+    }
+}
@@ -0,0 +1,305 @@
+package DataStructuresAndAlgorithms;
+
+import java.util.Arrays;
+
+/**
+ * This class implements an indexed priority queue: a binary max-heap of ids,
+ * each with an int priority that can be changed while it is queued.
+ * Ids are stable handles in the range [0, capacity). Next to the heap, the
+ * queue keeps the heap position of every id, so an id can be found, removed
+ * or moved after a priority change in O(log n) without searching the heap.
+ * All arrays are allocated up front; no operation allocates.
+ * As in {@link PriorityQueue}, the highest value has the highest priority.
+ */
+public class IndexedPriorityQueue {
+    private static final int ABSENT = -1; // Position of an id that is not queued
+
+    private final int[] heap; // Ids in heap order: the children of i are at 2i + 1 and 2i + 2
+    private final int[] positions; // Heap position of each id, or ABSENT
+    private final int[] priorities; // Priority of each queued id
+    private int count; // Current number of ids in the queue
+
+    /**
+     * Constructs an empty queue for ids from 0 to capacity - 1.
+     *
+     * @param capacity the number of distinct ids
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public IndexedPriorityQueue(int capacity) {
+        if (capacity < 0)
+            throw new IllegalArgumentException("Capacity can't be negative.");
+
+        heap = new int[capacity];
+        positions = new int[capacity];
+        priorities = new int[capacity];
+        Arrays.fill(positions, ABSENT);
+    }
+
+    /**
+     * Adds an id to the queue with the given priority - O(log n).
+     *
+     * @param id       the id to add
+     * @param priority the priority of the id
+     * @throws IllegalArgumentException if the id is out of range
+     * @throws IllegalStateException    if the id is already queued
+     */
+    public void add(int id, int priority) {
+        checkId(id);
+        if (positions[id] != ABSENT)
+            throw new IllegalStateException("Id is already queued: " + id);
+
+        priorities[id] = priority;
+        siftUp(count++, id);
+    }
+
+    /**
+     * Changes the priority of a queued id, moving it up or down the heap
+     * - O(log n).
+     *
+     * @param id       the id whose priority changes
+     * @param priority the new priority
+     * @throws IllegalArgumentException if the id is out of range
+     * @throws IllegalStateException    if the id is not queued
+     */
+    public void changePriority(int id, int priority) {
+        var position = positionOf(id);
+        var old = priorities[id];
+        priorities[id] = priority;
+
+        if (priority > old)
+            siftUp(position, id);
+        else if (priority < old)
+            siftDown(position, id);
+    }
+
+    /**
+     * Removes and returns the id with the highest priority - O(log n).
+     *
+     * @return the id with the highest priority
+     * @throws IllegalStateException if the queue is empty
+     */
+    public int remove() {
+        if (isEmpty())
+            throw new IllegalStateException("Queue is empty.");
+
+        var top = heap[0];
+        removeAt(0);
+
+        return top;
+    }
+
+    /**
+     * Removes a queued id, wherever it is in the heap - O(log n).
+     *
+     * @param id the id to remove
+     * @throws IllegalArgumentException if the id is out of range
+     * @throws IllegalStateException    if the id is not queued
+     */
+    public void remove(int id) {
+        removeAt(positionOf(id));
+    }
+
+    /**
+     * Checks if an id is queued - O(1).
+     *
+     * @param id the id to look for
+     * @return true if the id is queued, false otherwise
+     * @throws IllegalArgumentException if the id is out of range
+     */
+    public boolean contains(int id) {
+        checkId(id);
+
+        return positions[id] != ABSENT;
+    }
+
+    /**
+     * Returns the priority of a queued id.
+     *
+     * @param id the id whose priority is returned
+     * @return the priority of the id
+     * @throws IllegalArgumentException if the id is out of range
+     * @throws IllegalStateException    if the id is not queued
+     */
+    public int priorityOf(int id) {
+        positionOf(id);
+
+        return priorities[id];
+    }
+
+    /**
+     * Returns the id with the highest priority without removing it.
+     *
+     * @return the id with the highest priority
+     * @throws IllegalStateException if the queue is empty
+     */
+    public int peek() {
+        if (isEmpty())
+            throw new IllegalStateException("Queue is empty.");
+
+        return heap[0];
+    }
+
+    /**
+     * Returns the number of queued ids.
+     *
+     * @return the number of ids
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return true if the queue is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * Checks that an id is within the capacity of the queue.
+     *
+     * @param id the id to check
+     * @throws IllegalArgumentException if the id is out of range
+     */
+    private void checkId(int id) {
+        if (id < 0 || id >= positions.length)
+            throw new IllegalArgumentException("Invalid id: " + id);
+    }
+
+    /**
+     * Returns the heap position of a queued id.
+     *
+     * @param id the id to look up
+     * @return the position of the id in the heap
+     * @throws IllegalArgumentException if the id is out of range
+     * @throws IllegalStateException    if the id is not queued
+     */
+    private int positionOf(int id) {
+        checkId(id);
+        var position = positions[id];
+        if (position == ABSENT)
+            throw new IllegalStateException("Id is not queued: " + id);
+
+        return position;
+    }
+
+    /**
+     * Removes the id at a heap position, filling the hole with the last id.
+     *
+     * @param position the position to empty
+     */
+    private void removeAt(int position) {
+        positions[heap[position]] = ABSENT;
+
+        var last = heap[--count];
+        if (position == count)
+            return;
+
+        // The last id may belong above or below the hole
+        if (position > 0 && priorities[last] > priorities[heap[(position - 1) / 2]])
+            siftUp(position, last);
+        else
+            siftDown(position, last);
+    }
+
+    /**
+     * Moves an id up from a hole towards the root until its parent's priority
+     * is at least as high, and stores it there.
+     *
+     * @param hole the position the id starts at
+     * @param id   the id being placed
+     */
+    private void siftUp(int hole, int id) {
+        var priority = priorities[id];
+        while (hole > 0) {
+            var parent = (hole - 1) / 2;
+            if (priorities[heap[parent]] >= priority)
+                break;
+
+            place(hole, heap[parent]);
+            hole = parent;
+        }
+
+        place(hole, id);
+    }
+
+    /**
+     * Moves an id down from a hole, swapping in its higher-priority child,
+     * until no child has a higher priority, and stores it there.
+     *
+     * @param hole the position the id starts at
+     * @param id   the id being placed
+     */
+    private void siftDown(int hole, int id) {
+        var priority = priorities[id];
+        while (true) {
+            var child = 2 * hole + 1;
+            if (child >= count)
+                break;
+            if (child + 1 < count && priorities[heap[child + 1]] > priorities[heap[child]])
+                child++;
+            if (priorities[heap[child]] <= priority)
+                break;
+
+            place(hole, heap[child]);
+            hole = child;
+        }
+
+        place(hole, id);
+    }
+
+    /**
+     * Stores an id at a heap position and records the position.
+     *
+     * @param position the heap position
+     * @param id       the id to store
+     */
+    private void place(int position, int id) {
+        heap[position] = id;
+        positions[id] = position;
+    }
+
+    /**
+     * Returns a string representation of the queue, as id=priority pairs in
+     * heap order.
+     *
+     * @return a string representation of the queue
+     */
+    @Override
+    public String toString() {
+        var content = new String[count];
+        for (var i = 0; i < count; i++)
+            content[i] = heap[i] + "=" + priorities[heap[i]];
+
+        return Arrays.toString(content);
+    }
+
+    /**
+     * Main method to test the IndexedPriorityQueue implementation with sample
+     * operations.
+     *
+     * @param args command line arguments (not used)
+     */
+    public static void main(String[] args) {
+        var queue = new IndexedPriorityQueue(10);
+
+        queue.add(0, 50);
+        queue.add(1, 30);
+        queue.add(2, 60);
+        queue.add(3, 10);
+
+        System.out.println(queue.peek()); // Output: 2
+        queue.changePriority(3, 70); // Job 3 becomes urgent
+        System.out.println(queue.peek()); // Output: 3
+        queue.changePriority(3, 5);
+
+        queue.remove(0); // Job 0 is cancelled
+        System.out.println(queue.contains(0)); // Output: false
+        System.out.println(queue.priorityOf(1)); // Output: 30
+
+        while (!queue.isEmpty())
+            System.out.println(queue.remove()); // Output: 2 1 3
+    }
+}
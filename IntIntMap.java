@@ -0,0 +1,234 @@
+package DataStructuresAndAlgorithms;
+
+import java.util.function.IntBinaryOperator;
+
+/**
+ * This class implements a hash map from int keys to int values.
+ * Keys and values are kept in parallel primitive arrays with open addressing,
+ * so no object is allocated per entry and no value is ever boxed.
+ */
+public class IntIntMap extends PrimitiveHashCore {
+
+    /**
+     * This interface accepts the entries of the map, one at a time.
+     */
+    @FunctionalInterface
+    public interface EntryConsumer {
+        /**
+         * Accepts one entry.
+         *
+         * @param key   the key of the entry
+         * @param value the value of the entry
+         */
+        void accept(int key, int value);
+    }
+
+    private int[] keys; // The keys, indexed by slot
+    private int[] values; // The values, indexed by slot
+
+    /**
+     * Constructs an empty map.
+     */
+    public IntIntMap() {
+        this(0);
+    }
+
+    /**
+     * Constructs an empty map able to hold the given number of entries without
+     * growing.
+     *
+     * @param expectedSize the number of entries expected
+     */
+    public IntIntMap(int expectedSize) {
+        super(expectedSize, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Associates the specified value with the specified key in this map.
+     * If the map previously contained a mapping for the key, the old value is
+     * replaced.
+     *
+     * @param key   the key with which the specified value is to be associated
+     * @param value the value to be associated with the specified key
+     */
+    public void put(int key, int value) {
+        var slot = slotOf(key);
+        if (used[slot]) {
+            values[slot] = value;
+            return;
+        }
+
+        keys[slot] = key;
+        values[slot] = value;
+        entryAdded(slot);
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped, or the given
+     * default if this map contains no mapping for the key.
+     *
+     * @param key          the key whose associated value is to be returned
+     * @param defaultValue the value returned for an absent key
+     * @return the value of the key, or the default value
+     */
+    public int getOrDefault(int key, int defaultValue) {
+        var slot = slotOf(key);
+
+        return used[slot] ? values[slot] : defaultValue;
+    }
+
+    /**
+     * Checks if this map contains a mapping for the specified key.
+     *
+     * @param key the key to look for
+     * @return true if the key is present, false otherwise
+     */
+    public boolean containsKey(int key) {
+        return used[slotOf(key)];
+    }
+
+    /**
+     * Adds the given amount to the value of a key, treating an absent key as
+     * mapped to zero.
+     *
+     * @param key       the key whose value is to be incremented
+     * @param increment the amount to add
+     * @return the new value of the key
+     */
+    public int addTo(int key, int increment) {
+        var slot = slotOf(key);
+        if (used[slot])
+            return values[slot] += increment;
+
+        keys[slot] = key;
+        values[slot] = increment;
+        entryAdded(slot);
+        return increment;
+    }
+
+    /**
+     * Combines the given value with the value of a key, or associates the
+     * given value with the key if it is absent.
+     *
+     * @param key      the key whose value is to be merged
+     * @param value    the value to merge in
+     * @param function combines the old value (left) with the given value (right)
+     * @return the new value of the key
+     */
+    public int merge(int key, int value, IntBinaryOperator function) {
+        var slot = slotOf(key);
+        if (used[slot])
+            return values[slot] = function.applyAsInt(values[slot], value);
+
+        keys[slot] = key;
+        values[slot] = value;
+        entryAdded(slot);
+        return value;
+    }
+
+    /**
+     * Removes the mapping for a key from this map if it is present.
+     *
+     * @param key the key whose mapping is to be removed from the map
+     * @return true if a mapping was removed, false if the key was absent
+     */
+    public boolean remove(int key) {
+        var slot = slotOf(key);
+        if (!used[slot])
+            return false;
+
+        deleteSlot(slot);
+        return true;
+    }
+
+    /**
+     * Passes every entry of this map to the given consumer, in table order.
+     *
+     * @param consumer the consumer of the entries
+     */
+    public void forEach(EntryConsumer consumer) {
+        for (var slot = 0; slot < used.length; slot++) {
+            if (used[slot])
+                consumer.accept(keys[slot], values[slot]);
+        }
+    }
+
+    /**
+     * Returns the slot holding the key, or the free slot where it would be
+     * inserted.
+     *
+     * @param key the key to look for
+     * @return the slot of the key, or the first free slot on its probe path
+     */
+    private int slotOf(int key) {
+        var slot = mix(key) & mask;
+        while (used[slot] && keys[slot] != key)
+            slot = (slot + 1) & mask;
+
+        return slot;
+    }
+
+    @Override
+    protected void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+    }
+
+    @Override
+    protected int homeSlot(int slot) {
+        return mix(keys[slot]) & mask;
+    }
+
+    @Override
+    protected void moveEntry(int from, int to) {
+        keys[to] = keys[from];
+        values[to] = values[from];
+    }
+
+    @Override
+    protected void clearEntry(int slot) {
+    }
+
+    @Override
+    protected void rehash(int capacity) {
+        var oldKeys = keys;
+        var oldValues = values;
+        var oldUsed = swapTables(capacity);
+        allocate(capacity);
+
+        for (var i = 0; i < oldUsed.length; i++) {
+            if (!oldUsed[i])
+                continue;
+
+            var slot = freeSlot(mix(oldKeys[i]) & mask);
+            keys[slot] = oldKeys[i];
+            values[slot] = oldValues[i];
+            used[slot] = true;
+        }
+    }
+
+    /**
+     * Main method to test the IntIntMap implementation with sample operations.
+     *
+     * @param args command line arguments (not used)
+     */
+    public static void main(String[] args) {
+        var map = new IntIntMap();
+        map.put(6, 60);
+        map.put(-8, 80);
+        map.addTo(6, 1);
+        map.addTo(11, 5);
+        map.merge(11, 3, Math::max);
+
+        System.out.println(map.getOrDefault(6, -1)); // Output: 61
+        System.out.println(map.getOrDefault(11, -1)); // Output: 5
+        System.out.println(map.getOrDefault(10, -1)); // Output: -1
+
+        System.out.println(map.remove(-8)); // Output: true
+        System.out.println(map.remove(-8)); // Output: false
+
+        var sum = new int[1];
+        map.forEach((key, value) -> sum[0] += value);
+        System.out.println(sum[0]); // Output: 66
+    }
+}
@@ -0,0 +1,231 @@
+package DataStructuresAndAlgorithms;
+
+import java.util.function.LongBinaryOperator;
+
+/**
+ * This class implements a hash map from int keys to long values.
+ * Keys and values are kept in parallel primitive arrays with open addressing,
+ * so no object is allocated per entry and no value is ever boxed.
+ */
+public class IntLongMap extends PrimitiveHashCore {
+
+    /**
+     * This interface accepts the entries of the map, one at a time.
+     */
+    @FunctionalInterface
+    public interface EntryConsumer {
+        /**
+         * Accepts one entry.
+         *
+         * @param key   the key of the entry
+         * @param value the value of the entry
+         */
+        void accept(int key, long value);
+    }
+
+    private int[] keys; // The keys, indexed by slot
+    private long[] values; // The values, indexed by slot
+
+    /**
+     * Constructs an empty map.
+     */
+    public IntLongMap() {
+        this(0);
+    }
+
+    /**
+     * Constructs an empty map able to hold the given number of entries without
+     * growing.
+     *
+     * @param expectedSize the number of entries expected
+     */
+    public IntLongMap(int expectedSize) {
+        super(expectedSize, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Associates the specified value with the specified key in this map.
+     * If the map previously contained a mapping for the key, the old value is
+     * replaced.
+     *
+     * @param key   the key with which the specified value is to be associated
+     * @param value the value to be associated with the specified key
+     */
+    public void put(int key, long value) {
+        var slot = slotOf(key);
+        if (used[slot]) {
+            values[slot] = value;
+            return;
+        }
+
+        keys[slot] = key;
+        values[slot] = value;
+        entryAdded(slot);
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped, or the given
+     * default if this map contains no mapping for the key.
+     *
+     * @param key          the key whose associated value is to be returned
+     * @param defaultValue the value returned for an absent key
+     * @return the value of the key, or the default value
+     */
+    public long getOrDefault(int key, long defaultValue) {
+        var slot = slotOf(key);
+
+        return used[slot] ? values[slot] : defaultValue;
+    }
+
+    /**
+     * Checks if this map contains a mapping for the specified key.
+     *
+     * @param key the key to look for
+     * @return true if the key is present, false otherwise
+     */
+    public boolean containsKey(int key) {
+        return used[slotOf(key)];
+    }
+
+    /**
+     * Adds the given amount to the value of a key, treating an absent key as
+     * mapped to zero.
+     *
+     * @param key       the key whose value is to be incremented
+     * @param increment the amount to add
+     * @return the new value of the key
+     */
+    public long addTo(int key, long increment) {
+        var slot = slotOf(key);
+        if (used[slot])
+            return values[slot] += increment;
+
+        keys[slot] = key;
+        values[slot] = increment;
+        entryAdded(slot);
+        return increment;
+    }
+
+    /**
+     * Combines the given value with the value of a key, or associates the
+     * given value with the key if it is absent.
+     *
+     * @param key      the key whose value is to be merged
+     * @param value    the value to merge in
+     * @param function combines the old value (left) with the given value (right)
+     * @return the new value of the key
+     */
+    public long merge(int key, long value, LongBinaryOperator function) {
+        var slot = slotOf(key);
+        if (used[slot])
+            return values[slot] = function.applyAsLong(values[slot], value);
+
+        keys[slot] = key;
+        values[slot] = value;
+        entryAdded(slot);
+        return value;
+    }
+
+    /**
+     * Removes the mapping for a key from this map if it is present.
+     *
+     * @param key the key whose mapping is to be removed from the map
+     * @return true if a mapping was removed, false if the key was absent
+     */
+    public boolean remove(int key) {
+        var slot = slotOf(key);
+        if (!used[slot])
+            return false;
+
+        deleteSlot(slot);
+        return true;
+    }
+
+    /**
+     * Passes every entry of this map to the given consumer, in table order.
+     *
+     * @param consumer the consumer of the entries
+     */
+    public void forEach(EntryConsumer consumer) {
+        for (var slot = 0; slot < used.length; slot++) {
+            if (used[slot])
+                consumer.accept(keys[slot], values[slot]);
+        }
+    }
+
+    /**
+     * Returns the slot holding the key, or the free slot where it would be
+     * inserted.
+     *
+     * @param key the key to look for
+     * @return the slot of the key, or the first free slot on its probe path
+     */
+    private int slotOf(int key) {
+        var slot = mix(key) & mask;
+        while (used[slot] && keys[slot] != key)
+            slot = (slot + 1) & mask;
+
+        return slot;
+    }
+
+    @Override
+    protected void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new long[capacity];
+    }
+
+    @Override
+    protected int homeSlot(int slot) {
+        return mix(keys[slot]) & mask;
+    }
+
+    @Override
+    protected void moveEntry(int from, int to) {
+        keys[to] = keys[from];
+        values[to] = values[from];
+    }
+
+    @Override
+    protected void clearEntry(int slot) {
+    }
+
+    @Override
+    protected void rehash(int capacity) {
+        var oldKeys = keys;
+        var oldValues = values;
+        var oldUsed = swapTables(capacity);
+        allocate(capacity);
+
+        for (var i = 0; i < oldUsed.length; i++) {
+            if (!oldUsed[i])
+                continue;
+
+            var slot = freeSlot(mix(oldKeys[i]) & mask);
+            keys[slot] = oldKeys[i];
+            values[slot] = oldValues[i];
+            used[slot] = true;
+        }
+    }
+
+    /**
+     * Main method to test the IntLongMap implementation with sample operations.
+     *
+     * @param args command line arguments (not used)
+     */
+    public static void main(String[] args) {
+        var map = new IntLongMap();
+        map.put(6, 6_000_000_000L);
+        map.addTo(6, 1);
+        map.addTo(-11, 5);
+        map.merge(-11, 3, Long::sum);
+
+        System.out.println(map.getOrDefault(6, -1)); // Output: 6000000001
+        System.out.println(map.getOrDefault(-11, -1)); // Output: 8
+        System.out.println(map.getOrDefault(10, -1)); // Output: -1
+
+        System.out.println(map.remove(6)); // Output: true
+        System.out.println(map.size()); // Output: 1
+
+        map.forEach((key, value) -> System.out.println(key + "=" + value)); // Output: -11=8
+    }
+}
@@ -0,0 +1,349 @@
+package DataStructuresAndAlgorithms;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+/**
+ * This class implements a concurrent ordered set of integers as a lock-free
+ * skip list.
+ * It offers the ordered operations of {@link AVLTree} (insert, contains,
+ * delete and range scans) to any number of threads without locking: nodes
+ * are linked in with compare-and-set, deleted nodes are first marked and then
+ * unlinked by whichever thread passes them next, and contains never writes.
+ * Unlike {@link AVLTree}, the set holds each value at most once.
+ */
+public class LockFreeSkipList {
+    private static final int MAX_LEVEL = 32; // Number of levels in the list
+    private static final VarHandle LINKS = MethodHandles.arrayElementVarHandle(Object[].class); // Atomic link access
+
+    /**
+     * This class represents a node in the skip list.
+     * Each link holds either the successor node or, once the node is being
+     * deleted, a {@link Marked} wrapper around it. A node is logically deleted
+     * once its bottom-level link is marked.
+     */
+    private static class Node {
+        private final int value; // The value stored in this node
+        private final int topLevel; // The highest level this node is linked into
+        private final Object[] next; // Successor or Marked successor per level, accessed through LINKS
+
+        /**
+         * Constructs a new node linked into the given number of levels.
+         *
+         * @param value    the value to store in this node
+         * @param topLevel the highest level of the node
+         */
+        public Node(int value, int topLevel) {
+            this.value = value;
+            this.topLevel = topLevel;
+            this.next = new Object[topLevel + 1];
+        }
+
+        @Override
+        public String toString() {
+            return "Node=" + value;
+        }
+    }
+
+    /**
+     * This class wraps the successor of a node whose link has been marked for
+     * deletion. A compare-and-set expecting a plain node fails on a marked
+     * link, so nothing can be linked in after a node being deleted.
+     */
+    private static final class Marked {
+        private final Node successor; // The successor at the time of marking
+
+        /**
+         * Constructs a mark around the given successor.
+         *
+         * @param successor the successor being marked
+         */
+        public Marked(Node successor) {
+            this.successor = successor;
+        }
+    }
+
+    private final Node head = new Node(0, MAX_LEVEL - 1); // Sentinel before every value
+    private final Node tail = new Node(0, 0); // Sentinel after every value
+    private final AtomicInteger size = new AtomicInteger(); // The number of values in the set
+
+    /**
+     * Constructs an empty skip list.
+     */
+    public LockFreeSkipList() {
+        for (var level = 0; level < MAX_LEVEL; level++)
+            head.next[level] = tail;
+    }
+
+    /**
+     * Inserts a value into the set.
+     *
+     * @param value the value to insert
+     * @return true if the value was added, false if it was already present
+     */
+    public boolean insert(int value) {
+        var topLevel = randomLevel();
+        var preds = new Node[MAX_LEVEL];
+        var succs = new Node[MAX_LEVEL];
+
+        while (true) {
+            if (find(value, preds, succs))
+                return false;
+
+            var node = new Node(value, topLevel);
+            for (var level = 0; level <= topLevel; level++)
+                node.next[level] = succs[level];
+
+            // Linking the bottom level makes the value part of the set
+            if (!casLink(preds[0], 0, succs[0], node))
+                continue;
+
+            raise: for (var level = 1; level <= topLevel; level++) {
+                while (!casLink(preds[level], level, succs[level], node)) {
+                    find(value, preds, succs);
+                    // Stop raising the node once a deletion has marked it
+                    var link = getLink(node, level);
+                    if (link instanceof Marked || !casLink(node, level, link, succs[level]))
+                        break raise;
+                }
+            }
+
+            size.incrementAndGet();
+            return true;
+        }
+    }
+
+    /**
+     * Deletes a value from the set.
+     *
+     * @param value the value to delete
+     * @return true if this call deleted the value, false if it was absent
+     */
+    public boolean delete(int value) {
+        var preds = new Node[MAX_LEVEL];
+        var succs = new Node[MAX_LEVEL];
+
+        if (!find(value, preds, succs))
+            return false;
+
+        var node = succs[0];
+
+        // Mark the upper levels first, so the node can no longer be raised
+        for (var level = node.topLevel; level >= 1; level--) {
+            var link = getLink(node, level);
+            while (!(link instanceof Marked)) {
+                casLink(node, level, link, new Marked((Node) link));
+                link = getLink(node, level);
+            }
+        }
+
+        // Whoever marks the bottom level owns the deletion
+        while (true) {
+            var link = getLink(node, 0);
+            if (link instanceof Marked)
+                return false;
+
+            if (casLink(node, 0, link, new Marked((Node) link))) {
+                size.decrementAndGet();
+                find(value, preds, succs); // Unlinks the marked node
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Searches for a value in the set, without locking or writing.
+     *
+     * @param value the value to search for
+     * @return true if the value is found, false otherwise
+     */
+    public boolean contains(int value) {
+        var node = ceilingNode(value);
+
+        return node != tail && node.value == value;
+    }
+
+    /**
+     * Passes every value between lo and hi (inclusive) to the consumer, in
+     * ascending order. Values inserted or deleted during the scan may or may
+     * not be seen.
+     *
+     * @param lo       the lower bound of the range
+     * @param hi       the upper bound of the range
+     * @param consumer the consumer of the values
+     */
+    public void rangeScan(int lo, int hi, IntConsumer consumer) {
+        var node = ceilingNode(lo);
+        while (node != tail && node.value <= hi) {
+            var link = getLink(node, 0);
+            if (link instanceof Marked) {
+                node = ((Marked) link).successor;
+            } else {
+                consumer.accept(node.value);
+                node = (Node) link;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of values in the set.
+     * While writers are active the result is only an estimate.
+     *
+     * @return the number of values
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Reads a link of a node.
+     *
+     * @param node  the node holding the link
+     * @param level the level of the link
+     * @return the successor node, or a Marked wrapper around it
+     */
+    private static Object getLink(Node node, int level) {
+        return LINKS.getVolatile(node.next, level);
+    }
+
+    /**
+     * Atomically replaces a link of a node if it still holds the expected
+     * content.
+     *
+     * @param node     the node holding the link
+     * @param level    the level of the link
+     * @param expected the content the link must hold, compared by identity
+     * @param update   the new content of the link
+     * @return true if the link was replaced, false otherwise
+     */
+    private static boolean casLink(Node node, int level, Object expected, Object update) {
+        return LINKS.compareAndSet(node.next, level, expected, update);
+    }
+
+    /**
+     * Returns the node a link points to, whether or not the link is marked.
+     *
+     * @param link the content of a link
+     * @return the successor node
+     */
+    private static Node successor(Object link) {
+        return (link instanceof Marked) ? ((Marked) link).successor : (Node) link;
+    }
+
+    /**
+     * Returns the first node not marked for deletion whose value is not below
+     * the given value, skipping marked nodes without unlinking them.
+     *
+     * @param value the value to search for
+     * @return the node found, or the tail sentinel
+     */
+    private Node ceilingNode(int value) {
+        var pred = head;
+        Node curr = null;
+
+        for (var level = MAX_LEVEL - 1; level >= 0; level--) {
+            curr = successor(getLink(pred, level));
+            while (curr != tail) {
+                var link = getLink(curr, level);
+                if (link instanceof Marked) {
+                    curr = ((Marked) link).successor;
+                } else if (curr.value < value) {
+                    pred = curr;
+                    curr = (Node) link;
+                } else {
+                    break;
+                }
+            }
+        }
+
+        return curr;
+    }
+
+    /**
+     * Finds the predecessor and successor of a value at every level,
+     * unlinking marked nodes along the way.
+     *
+     * @param value the value to search for
+     * @param preds receives the last node before the value at each level
+     * @param succs receives the first node at or after the value at each level
+     * @return true if an unmarked node holds the value, false otherwise
+     */
+    private boolean find(int value, Node[] preds, Node[] succs) {
+        retry: while (true) {
+            var pred = head;
+            Node curr = null;
+
+            for (var level = MAX_LEVEL - 1; level >= 0; level--) {
+                curr = successor(getLink(pred, level));
+                while (curr != tail) {
+                    var link = getLink(curr, level);
+                    if (link instanceof Marked) {
+                        // Unlink the marked node, or start over if pred changed
+                        var succ = ((Marked) link).successor;
+                        if (!casLink(pred, level, curr, succ))
+                            continue retry;
+                        curr = succ;
+                    } else if (curr.value < value) {
+                        pred = curr;
+                        curr = (Node) link;
+                    } else {
+                        break;
+                    }
+                }
+
+                preds[level] = pred;
+                succs[level] = curr;
+            }
+
+            return curr != tail && curr.value == value;
+        }
+    }
+
+    /**
+     * Picks the top level of a new node: each level above the bottom one is
+     * reached with probability one half.
+     *
+     * @return the top level of the new node
+     */
+    private static int randomLevel() {
+        var bits = ThreadLocalRandom.current().nextInt() | (1 << (MAX_LEVEL - 1));
+        return Integer.numberOfTrailingZeros(bits);
+    }
+
+    /**
+     * Main method to test the LockFreeSkipList implementation.
+     *
+     * @param args command line arguments
+     */
+    public static void main(String[] args) throws InterruptedException {
+        var set = new LockFreeSkipList();
+
+        set.insert(30);
+        set.insert(10);
+        set.insert(20);
+
+        System.out.println(set.insert(20)); // Output: false
+        System.out.println(set.contains(10)); // Output: true
+        System.out.println(set.delete(10)); // Output: true
+        System.out.println(set.contains(10)); // Output: false
+
+        // Four threads insert interleaved values at the same time
+        var threads = new Thread[4];
+        for (var t = 0; t < threads.length; t++) {
+            var offset = t;
+            threads[t] = new Thread(() -> {
+                for (var i = offset; i < 10_000; i += 4)
+                    set.insert(i * 100);
+            });
+            threads[t].start();
+        }
+        for (var thread : threads)
+            thread.join();
+
+        System.out.println(set.size()); // Output: 10002
+        set.rangeScan(15, 250, System.out::println); // Output: 20 30 100 200
+    }
+}
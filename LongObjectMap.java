@@ -0,0 +1,247 @@
+package DataStructuresAndAlgorithms;
+
+import java.util.function.BiFunction;
+
+/**
+ * This class implements a hash map from long keys to object values.
+ * Keys are kept unboxed in a primitive array with open addressing, next to a
+ * parallel value array, so no object is allocated per entry.
+ *
+ * @param <V> the type of the values
+ */
+public class LongObjectMap<V> extends PrimitiveHashCore {
+
+    /**
+     * This interface accepts the entries of the map, one at a time.
+     *
+     * @param <V> the type of the values
+     */
+    @FunctionalInterface
+    public interface EntryConsumer<V> {
+        /**
+         * Accepts one entry.
+         *
+         * @param key   the key of the entry
+         * @param value the value of the entry
+         */
+        void accept(long key, V value);
+    }
+
+    private long[] keys; // The keys, indexed by slot
+    private Object[] values; // The values, indexed by slot
+
+    /**
+     * Constructs an empty map.
+     */
+    public LongObjectMap() {
+        this(0);
+    }
+
+    /**
+     * Constructs an empty map able to hold the given number of entries without
+     * growing.
+     *
+     * @param expectedSize the number of entries expected
+     */
+    public LongObjectMap(int expectedSize) {
+        super(expectedSize, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Associates the specified value with the specified key in this map.
+     * If the map previously contained a mapping for the key, the old value is
+     * replaced.
+     *
+     * @param key   the key with which the specified value is to be associated
+     * @param value the value to be associated with the specified key
+     * @throws IllegalArgumentException if the value is null
+     */
+    public void put(long key, V value) {
+        if (value == null)
+            throw new IllegalArgumentException("Value can't be null.");
+
+        var slot = slotOf(key);
+        if (used[slot]) {
+            values[slot] = value;
+            return;
+        }
+
+        keys[slot] = key;
+        values[slot] = value;
+        entryAdded(slot);
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped,
+     * or null if this map contains no mapping for the key.
+     *
+     * @param key the key whose associated value is to be returned
+     * @return the value to which the specified key is mapped, or null if this map
+     *         contains no mapping for the key
+     */
+    public V get(long key) {
+        return getOrDefault(key, null);
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped, or the given
+     * default if this map contains no mapping for the key.
+     *
+     * @param key          the key whose associated value is to be returned
+     * @param defaultValue the value returned for an absent key
+     * @return the value of the key, or the default value
+     */
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(long key, V defaultValue) {
+        var slot = slotOf(key);
+
+        return used[slot] ? (V) values[slot] : defaultValue;
+    }
+
+    /**
+     * Checks if this map contains a mapping for the specified key.
+     *
+     * @param key the key to look for
+     * @return true if the key is present, false otherwise
+     */
+    public boolean containsKey(long key) {
+        return used[slotOf(key)];
+    }
+
+    /**
+     * Combines the given value with the value of a key, or associates the
+     * given value with the key if it is absent. If the function returns null,
+     * the key is removed.
+     *
+     * @param key      the key whose value is to be merged
+     * @param value    the value to merge in
+     * @param function combines the old value with the given value
+     * @return the new value of the key, or null if it was removed
+     * @throws IllegalArgumentException if the value is null
+     */
+    @SuppressWarnings("unchecked")
+    public V merge(long key, V value, BiFunction<? super V, ? super V, ? extends V> function) {
+        if (value == null)
+            throw new IllegalArgumentException("Value can't be null.");
+
+        var slot = slotOf(key);
+        if (!used[slot]) {
+            keys[slot] = key;
+            values[slot] = value;
+            entryAdded(slot);
+            return value;
+        }
+
+        V merged = function.apply((V) values[slot], value);
+        if (merged == null)
+            deleteSlot(slot);
+        else
+            values[slot] = merged;
+
+        return merged;
+    }
+
+    /**
+     * Removes the mapping for a key from this map if it is present.
+     *
+     * @param key the key whose mapping is to be removed from the map
+     * @return true if a mapping was removed, false if the key was absent
+     */
+    public boolean remove(long key) {
+        var slot = slotOf(key);
+        if (!used[slot])
+            return false;
+
+        deleteSlot(slot);
+        return true;
+    }
+
+    /**
+     * Passes every entry of this map to the given consumer, in table order.
+     *
+     * @param consumer the consumer of the entries
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(EntryConsumer<? super V> consumer) {
+        for (var slot = 0; slot < used.length; slot++) {
+            if (used[slot])
+                consumer.accept(keys[slot], (V) values[slot]);
+        }
+    }
+
+    /**
+     * Returns the slot holding the key, or the free slot where it would be
+     * inserted.
+     *
+     * @param key the key to look for
+     * @return the slot of the key, or the first free slot on its probe path
+     */
+    private int slotOf(long key) {
+        var slot = mix(key) & mask;
+        while (used[slot] && keys[slot] != key)
+            slot = (slot + 1) & mask;
+
+        return slot;
+    }
+
+    @Override
+    protected void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+    }
+
+    @Override
+    protected int homeSlot(int slot) {
+        return mix(keys[slot]) & mask;
+    }
+
+    @Override
+    protected void moveEntry(int from, int to) {
+        keys[to] = keys[from];
+        values[to] = values[from];
+    }
+
+    @Override
+    protected void clearEntry(int slot) {
+        values[slot] = null;
+    }
+
+    @Override
+    protected void rehash(int capacity) {
+        var oldKeys = keys;
+        var oldValues = values;
+        var oldUsed = swapTables(capacity);
+        allocate(capacity);
+
+        for (var i = 0; i < oldUsed.length; i++) {
+            if (!oldUsed[i])
+                continue;
+
+            var slot = freeSlot(mix(oldKeys[i]) & mask);
+            keys[slot] = oldKeys[i];
+            values[slot] = oldValues[i];
+            used[slot] = true;
+        }
+    }
+
+    /**
+     * Main method to test the LongObjectMap implementation with sample
+     * operations.
+     *
+     * @param args command line arguments (not used)
+     */
+    public static void main(String[] args) {
+        var map = new LongObjectMap<String>();
+        map.put(6_000_000_000L, "A");
+        map.put(-8L, "B");
+        map.merge(6_000_000_000L, "+", String::concat);
+
+        System.out.println(map.get(6_000_000_000L)); // Output: A+
+        System.out.println(map.get(6L)); // Output: null
+
+        System.out.println(map.remove(-8L)); // Output: true
+        System.out.println(map.size()); // Output: 1
+
+        map.forEach((key, value) -> System.out.println(key + "=" + value)); // Output: 6000000000=A+
+    }
+}
@@ -0,0 +1,414 @@
+package DataStructuresAndAlgorithms;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * This class implements a hash map whose contents live in a memory-mapped file
+ * instead of on the Java heap.
+ * The hash map associates integer keys with string values, like {@link HashMap}.
+ * Keys and value offsets are kept in an open-addressing slot table with linear
+ * probing, and values are appended to a heap of length-prefixed UTF-8 bytes
+ * after the table. Lookups allocate nothing but the returned string, and
+ * reopening an existing file makes its contents available without rebuilding
+ * anything.
+ *
+ * File layout:
+ * <pre>
+ * header  | magic, version, capacity, size, heap end
+ * slots   | capacity * (int key, int value offset + 1, 0 when free)
+ * heap    | (int length, UTF-8 bytes) per stored value
+ * </pre>
+ * The slot table is sized when the file is created and does not grow; it
+ * holds at most 2^27 slots, about 100 million mappings. The value heap is a
+ * single mapping addressed by int offsets, so it is limited to just under
+ * 2 GB of encoded values. Replaced and removed values are not reclaimed from
+ * the heap, so frequent updates reach that limit sooner than the live data
+ * alone would.
+ */
+public class MappedHashMap implements Closeable {
+    private static final int MAGIC = 0x4D484D31; // "MHM1"
+    private static final int VERSION = 1; // Version of the file layout
+    private static final int HEADER_SIZE = 32; // Bytes reserved for the header
+    private static final int SLOT_SIZE = 8; // Bytes per slot: key and value reference
+    private static final float LOAD_FACTOR = 0.75f; // Maximum fill ratio of the slot table
+    private static final int MIN_HEAP_SIZE = 1 << 16; // Bytes of heap mapped for a new file
+    private static final int MIN_CAPACITY = 16; // Smallest slot table
+    private static final int MAX_CAPACITY = 1 << 27; // Largest table a single mapping can hold
+
+    // Header field offsets
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int CAPACITY_OFFSET = 8;
+    private static final int SIZE_OFFSET = 12;
+    private static final int HEAP_END_OFFSET = 16;
+
+    private final FileChannel channel; // The channel the file is mapped through
+    private final MappedByteBuffer table; // The mapped header and slot table
+    private MappedByteBuffer heap; // The mapped value heap
+    private final long heapStart; // File offset of the value heap
+    private final int capacity; // Number of slots, a power of two
+    private final int mask; // capacity - 1, used to wrap slot indexes
+    private int size; // The number of mappings in the map
+    private int heapEnd; // Bytes of the value heap in use
+
+    /**
+     * Opens the map stored in the given file, or creates a new file able to
+     * hold the given number of mappings if it does not exist yet.
+     *
+     * @param file         the file backing the map
+     * @param expectedSize the number of mappings a new file must hold; ignored
+     *                     when the file already exists
+     * @throws IOException              if the file can't be opened or mapped
+     * @throws IllegalArgumentException if the file is not a map file or its
+     *                                  header is inconsistent with its length
+     */
+    public MappedHashMap(Path file, int expectedSize) throws IOException {
+        var fileSize = Files.exists(file) ? Files.size(file) : 0;
+        var exists = fileSize > 0;
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+
+        try {
+            if (exists) {
+                if (fileSize < HEADER_SIZE)
+                    throw new IllegalArgumentException("Not a map file: " + file);
+
+                var header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+                if (header.getInt(MAGIC_OFFSET) != MAGIC || header.getInt(VERSION_OFFSET) != VERSION)
+                    throw new IllegalArgumentException("Not a map file: " + file);
+
+                capacity = header.getInt(CAPACITY_OFFSET);
+                size = header.getInt(SIZE_OFFSET);
+                heapEnd = header.getInt(HEAP_END_OFFSET);
+
+                // Validate before any read-write mapping, which would extend the file
+                if (capacity < MIN_CAPACITY || capacity > MAX_CAPACITY || Integer.bitCount(capacity) != 1 || size < 0
+                        || size > capacity * LOAD_FACTOR || heapEnd < 0
+                        || fileSize < HEADER_SIZE + (long) capacity * SLOT_SIZE + heapEnd)
+                    throw new IllegalArgumentException("Corrupt map file: " + file);
+            } else {
+                capacity = capacityFor(expectedSize);
+            }
+
+            mask = capacity - 1;
+            heapStart = HEADER_SIZE + (long) capacity * SLOT_SIZE;
+            table = channel.map(FileChannel.MapMode.READ_WRITE, 0, heapStart);
+
+            if (!exists) {
+                table.putInt(MAGIC_OFFSET, MAGIC);
+                table.putInt(VERSION_OFFSET, VERSION);
+                table.putInt(CAPACITY_OFFSET, capacity);
+                writeHeader();
+            }
+
+            mapHeap(Math.max(MIN_HEAP_SIZE, heapEnd));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the smallest power-of-two slot count that holds the given number
+     * of mappings within the load factor.
+     *
+     * @param expectedSize the number of mappings expected
+     * @return the slot count
+     */
+    private static int capacityFor(int expectedSize) {
+        if (expectedSize < 0)
+            throw new IllegalArgumentException("Expected size can't be negative.");
+
+        var capacity = MIN_CAPACITY;
+        while (capacity * LOAD_FACTOR < expectedSize) {
+            if (capacity == MAX_CAPACITY)
+                throw new IllegalArgumentException("Expected size is too large.");
+            capacity <<= 1;
+        }
+
+        return capacity;
+    }
+
+    /**
+     * Spreads the bits of a key so that sequential and negative keys are
+     * distributed evenly over the slot table.
+     *
+     * @param key the key to be hashed
+     * @return the mixed hash of the key
+     */
+    private static int mix(int key) {
+        var h = key * 0x9E3779B9; // Fibonacci multiplier
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Returns the buffer position of a slot.
+     *
+     * @param index the slot index
+     * @return the position of the slot's key in the table buffer
+     */
+    private static int slotPosition(int index) {
+        return HEADER_SIZE + index * SLOT_SIZE;
+    }
+
+    /**
+     * Associates the specified value with the specified key in this map.
+     * If the map previously contained a mapping for the key, the old value is
+     * replaced.
+     *
+     * @param key   the key with which the specified value is to be associated
+     * @param value the value to be associated with the specified key
+     * @throws IOException              if the heap can't be grown
+     * @throws IllegalArgumentException if the value is null
+     * @throws IllegalStateException    if the slot table or the value heap is
+     *                                  full
+     */
+    public void put(int key, String value) throws IOException {
+        if (value == null)
+            throw new IllegalArgumentException("Value can't be null.");
+
+        var index = mix(key) & mask;
+        while (reference(index) != 0) {
+            if (keyAt(index) == key) {
+                table.putInt(slotPosition(index) + 4, appendValue(value));
+                writeHeader();
+                return;
+            }
+            index = (index + 1) & mask;
+        }
+
+        if (size + 1 > capacity * LOAD_FACTOR)
+            throw new IllegalStateException("Map is full.");
+
+        var reference = appendValue(value);
+        table.putInt(slotPosition(index), key);
+        table.putInt(slotPosition(index) + 4, reference);
+        size++;
+        writeHeader();
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped,
+     * or null if this map contains no mapping for the key.
+     *
+     * @param key the key whose associated value is to be returned
+     * @return the value to which the specified key is mapped, or null if this map
+     *         contains no mapping for the key
+     */
+    public String get(int key) {
+        var index = indexOf(key);
+
+        return (index < 0) ? null : readValue(reference(index));
+    }
+
+    /**
+     * Checks if this map contains a mapping for the specified key.
+     *
+     * @param key the key to look for
+     * @return true if the key is present, false otherwise
+     */
+    public boolean containsKey(int key) {
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * Removes the mapping for a key from this map if it is present.
+     *
+     * @param key the key whose mapping is to be removed from the map
+     * @throws IllegalStateException if the specified key is not present in the map
+     */
+    public void remove(int key) {
+        var index = indexOf(key);
+
+        if (index < 0)
+            throw new IllegalStateException("Invalid key removal");
+
+        // Backward-shift deletion, as in ProbingHashMap
+        var hole = index;
+        var next = (hole + 1) & mask;
+        while (reference(next) != 0) {
+            var home = mix(keyAt(next)) & mask;
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                table.putLong(slotPosition(hole), table.getLong(slotPosition(next)));
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+
+        table.putLong(slotPosition(hole), 0L);
+        size--;
+        writeHeader();
+    }
+
+    /**
+     * Returns the number of mappings in this map.
+     *
+     * @return the number of mappings
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Writes all changes through to the file.
+     */
+    public void force() {
+        table.force();
+        heap.force();
+    }
+
+    /**
+     * Writes all changes through to the file and closes it.
+     *
+     * @throws IOException if the file can't be closed
+     */
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+
+    /**
+     * Returns the slot holding the specified key, or -1 if the key is absent.
+     *
+     * @param key the key to look for
+     * @return the slot of the key, or -1 if the key is absent
+     */
+    private int indexOf(int key) {
+        var index = mix(key) & mask;
+        while (reference(index) != 0) {
+            if (keyAt(index) == key)
+                return index;
+            index = (index + 1) & mask;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the key stored in a slot.
+     *
+     * @param index the slot index
+     * @return the key of the slot
+     */
+    private int keyAt(int index) {
+        return table.getInt(slotPosition(index));
+    }
+
+    /**
+     * Returns the value reference stored in a slot.
+     *
+     * @param index the slot index
+     * @return the heap offset of the value plus one, or 0 if the slot is free
+     */
+    private int reference(int index) {
+        return table.getInt(slotPosition(index) + 4);
+    }
+
+    /**
+     * Decodes the value stored at a heap reference.
+     *
+     * @param reference the heap offset of the value plus one
+     * @return the decoded value
+     */
+    private String readValue(int reference) {
+        var offset = reference - 1;
+        var bytes = new byte[heap.getInt(offset)];
+        heap.get(offset + 4, bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Appends a value to the heap, growing the mapping if needed.
+     *
+     * @param value the value to append
+     * @return the heap offset of the value plus one
+     * @throws IOException if the heap can't be grown
+     */
+    private int appendValue(String value) throws IOException {
+        var bytes = value.getBytes(StandardCharsets.UTF_8);
+        var end = (long) heapEnd + 4 + bytes.length;
+
+        if (end >= Integer.MAX_VALUE)
+            throw new IllegalStateException("Map is full.");
+        if (end > heap.capacity())
+            mapHeap((int) Math.min(Integer.MAX_VALUE - 1, Math.max(end, heap.capacity() * 2L)));
+
+        var offset = heapEnd;
+        heap.putInt(offset, bytes.length);
+        heap.put(offset + 4, bytes);
+        heapEnd = (int) end;
+
+        return offset + 1;
+    }
+
+    /**
+     * Maps the given number of heap bytes, extending the file if necessary.
+     *
+     * @param length the number of heap bytes to map
+     * @throws IOException if the file can't be mapped
+     */
+    private void mapHeap(int length) throws IOException {
+        if (heap != null)
+            heap.force();
+
+        heap = channel.map(FileChannel.MapMode.READ_WRITE, heapStart, length);
+    }
+
+    /**
+     * Records the current size and heap end in the file header.
+     */
+    private void writeHeader() {
+        table.putInt(SIZE_OFFSET, size);
+        table.putInt(HEAP_END_OFFSET, heapEnd);
+    }
+
+    /**
+     * Main method to test the MappedHashMap implementation with sample
+     * operations.
+     *
+     * @param args command line arguments (not used)
+     */
+    public static void main(String[] args) throws IOException {
+        var file = Files.createTempFile("mapped-hash-map", ".bin");
+        Files.delete(file);
+
+        try (var map = new MappedHashMap(file, 1_000)) {
+            map.put(6, "A");
+            map.put(8, "B");
+            map.put(-11, "C");
+            map.put(6, "A+");
+
+            System.out.println(map.get(6)); // Output: A+
+            System.out.println(map.get(10)); // Output: null
+
+            map.remove(8);
+            for (var i = 100; i < 700; i++)
+                map.put(i, "V" + i);
+        }
+
+        // Reopening the file maps the existing contents without reloading them
+        try (var map = new MappedHashMap(file, 0)) {
+            System.out.println(map.size()); // Output: 602
+            System.out.println(map.get(-11)); // Output: C
+            System.out.println(map.get(699)); // Output: V699
+
+            // Attempt to remove a key that doesn't exist
+            try {
+                map.remove(8);
+            } catch (IllegalStateException e) {
+                System.out.println(e.getMessage()); // Output: Invalid key removal
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
@@ -0,0 +1,904 @@
+package DataStructuresAndAlgorithms;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.function.IntConsumer;
+import java.util.zip.CRC32;
+
+/**
+ * This class implements a B+ Tree stored in fixed-size pages of a file, an
+ * ordered set of integers that survives restarts and may be larger than RAM.
+ * Like {@link BPlusTree}, values live in linked leaves and inner nodes hold
+ * separators, but every node is a 4 KiB page. Pages are read into a small
+ * buffer pool and evicted least recently used first, so a lookup costs one
+ * page read per level, and with more than 500 children per inner page three
+ * levels index hundreds of millions of values.
+ *
+ * Every insert or delete is made durable through a write-ahead log: before
+ * the call returns, the new images of the pages it changed are appended to
+ * the log and forced to disk, while the pages themselves are written back to
+ * the tree file later, on eviction or at a checkpoint. Opening the tree
+ * replays every complete batch in the log, so a crash loses no acknowledged
+ * change and never leaves a half-applied one.
+ *
+ * File layout, one page per node:
+ * <pre>
+ * page 0  | magic, version, root page, height, size, page count
+ * leaf    | type, count, next leaf page, count * int value
+ * inner   | type, count, unused, count * int separator, then count + 1 child pages
+ * log     | batches of (page id, page image) records, each closed by
+ *         | (-1, record count, CRC32 of the records)
+ * </pre>
+ * Deleted values are removed from their leaf, but underfull pages are not
+ * merged and pages are never returned to the file.
+ */
+public class PagedBPlusTree implements Closeable {
+    private static final int MAGIC = 0x50425431; // "PBT1"
+    private static final int VERSION = 1; // Version of the file layout
+    private static final int PAGE_SIZE = 4096; // Bytes per page
+    private static final int HEADER_SIZE = 12; // Bytes of the node header
+    private static final int LEAF_CAPACITY = (PAGE_SIZE - HEADER_SIZE) / 4; // Values per leaf page
+    private static final int INNER_CAPACITY = (PAGE_SIZE - HEADER_SIZE - 4) / 8; // Separators per inner page
+    private static final int CHILDREN_OFFSET = HEADER_SIZE + INNER_CAPACITY * 4; // Start of the child pages
+    private static final double BULK_LOAD_FILL = 0.9; // Share of each page filled by a bulk load
+    private static final int DEFAULT_POOL_PAGES = 64; // Pages cached by default
+    private static final int MIN_POOL_PAGES = 16; // Pages needed by one operation on a deep tree
+    private static final long LOG_LIMIT = 4L << 20; // Log bytes that trigger a checkpoint
+    private static final int COMMIT = -1; // Page id marking the end of a log batch
+    private static final int META_PAGE = 0; // The page holding the tree's metadata
+
+    // Node types
+    private static final byte LEAF = 0;
+    private static final byte INNER = 1;
+
+    // Node header field offsets
+    private static final int TYPE_OFFSET = 0;
+    private static final int COUNT_OFFSET = 4;
+    private static final int NEXT_OFFSET = 8;
+
+    // Metadata field offsets
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int ROOT_OFFSET = 8;
+    private static final int HEIGHT_OFFSET = 12;
+    private static final int SIZE_OFFSET = 16;
+    private static final int PAGE_COUNT_OFFSET = 20;
+
+    /**
+     * This class represents a page held in the buffer pool.
+     */
+    private static final class Frame {
+        private final int pageId; // The page held by this frame
+        private final ByteBuffer buffer; // The page contents
+        private boolean dirty; // Changed since the page was last written to the tree file
+        private boolean pending; // Changed since the last log batch; can't be evicted
+
+        /**
+         * Constructs a frame for the given page with zeroed contents.
+         *
+         * @param pageId the page held by the frame
+         */
+        public Frame(int pageId) {
+            this.pageId = pageId;
+            this.buffer = ByteBuffer.allocate(PAGE_SIZE);
+        }
+    }
+
+    private final FileChannel channel; // The tree file
+    private final FileChannel log; // The write-ahead log
+    private final int poolPages; // The number of pages the pool aims to hold
+    private final LinkedHashMap<Integer, Frame> pool; // Cached pages, least recently used first
+    private final ArrayList<Frame> pendingFrames = new ArrayList<>(); // Pages to append to the next log batch
+    private int root; // Page of the root node
+    private int height; // The number of inner levels above the leaves
+    private int size; // The number of values in the tree
+    private int pageCount; // The number of pages in use, including the metadata page
+
+    private int splitKey; // Separator produced by the most recent split
+    private int splitPage; // Right sibling produced by the most recent split
+
+    /**
+     * Opens the tree stored in the given file, or creates an empty one if it
+     * does not exist, with a buffer pool of the default size.
+     *
+     * @param file the file backing the tree; the log is kept next to it
+     * @throws IOException if the files can't be opened or recovered
+     */
+    public PagedBPlusTree(Path file) throws IOException {
+        this(file, DEFAULT_POOL_PAGES);
+    }
+
+    /**
+     * Opens the tree stored in the given file, or creates an empty one if it
+     * does not exist. Any batches left in the log by a crash are replayed
+     * first.
+     *
+     * @param file      the file backing the tree; the log is kept next to it
+     * @param poolPages the number of pages to cache in memory
+     * @throws IOException              if the files can't be opened or recovered
+     * @throws IllegalArgumentException if the pool is too small or the file
+     *                                  is not a tree file
+     */
+    public PagedBPlusTree(Path file, int poolPages) throws IOException {
+        if (poolPages < MIN_POOL_PAGES)
+            throw new IllegalArgumentException("The pool must hold at least " + MIN_POOL_PAGES + " pages.");
+
+        this.poolPages = poolPages;
+        this.pool = new LinkedHashMap<>(poolPages * 2, 0.75f, true);
+
+        var exists = Files.exists(file) && Files.size(file) > 0;
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            log = FileChannel.open(file.resolveSibling(file.getFileName() + ".wal"), StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+
+        try {
+            if (exists) {
+                recover();
+                var meta = page(META_PAGE).buffer;
+                if (meta.getInt(MAGIC_OFFSET) != MAGIC || meta.getInt(VERSION_OFFSET) != VERSION)
+                    throw new IllegalArgumentException("Not a tree file: " + file);
+
+                root = meta.getInt(ROOT_OFFSET);
+                height = meta.getInt(HEIGHT_OFFSET);
+                size = meta.getInt(SIZE_OFFSET);
+                pageCount = meta.getInt(PAGE_COUNT_OFFSET);
+            } else {
+                pageCount = 1;
+                var meta = new Frame(META_PAGE);
+                meta.buffer.putInt(MAGIC_OFFSET, MAGIC);
+                meta.buffer.putInt(VERSION_OFFSET, VERSION);
+                meta.dirty = true;
+                pool.put(META_PAGE, meta);
+
+                root = allocate(LEAF, false).pageId;
+                checkpoint();
+            }
+        } catch (IOException | RuntimeException e) {
+            close(channel, log);
+            throw e;
+        }
+    }
+
+    /**
+     * Searches for a value in the tree.
+     *
+     * @param value the value to search for
+     * @return true if the value is found, false otherwise
+     * @throws IOException if a page can't be read
+     */
+    public boolean contains(int value) throws IOException {
+        var leaf = page(findLeaf(value)).buffer;
+        var index = lowerBound(leaf, HEADER_SIZE, leaf.getInt(COUNT_OFFSET), value);
+
+        return index < leaf.getInt(COUNT_OFFSET) && keyAt(leaf, index) == value;
+    }
+
+    /**
+     * Inserts a value into the tree. The change is durable once this method
+     * returns.
+     *
+     * @param value the value to insert
+     * @return true if the value was added, false if it was already present
+     * @throws IOException if a page or the log can't be written
+     */
+    public boolean insert(int value) throws IOException {
+        var sizeBefore = size;
+
+        // The root split: grow the tree by one level
+        if (insert(root, value)) {
+            var newRoot = allocate(INNER, true);
+            newRoot.buffer.putInt(COUNT_OFFSET, 1);
+            newRoot.buffer.putInt(HEADER_SIZE, splitKey);
+            newRoot.buffer.putInt(CHILDREN_OFFSET, root);
+            newRoot.buffer.putInt(CHILDREN_OFFSET + 4, splitPage);
+            root = newRoot.pageId;
+            height++;
+        }
+
+        if (size == sizeBefore)
+            return false;
+
+        commit();
+        return true;
+    }
+
+    /**
+     * Recursive helper method to insert a value into a sub-tree.
+     * If the node is full it is split, and the separator and new right
+     * sibling are left in {@link #splitKey} and {@link #splitPage}.
+     *
+     * @param pageId the root page of the sub-tree
+     * @param value  the value to insert
+     * @return true if the node split, false otherwise
+     * @throws IOException if a page can't be read
+     */
+    private boolean insert(int pageId, int value) throws IOException {
+        var node = page(pageId).buffer;
+        var count = node.getInt(COUNT_OFFSET);
+
+        if (node.get(TYPE_OFFSET) == LEAF) {
+            var index = lowerBound(node, HEADER_SIZE, count, value);
+            if (index < count && keyAt(node, index) == value)
+                return false;
+
+            size++;
+            node = modify(pageId).buffer;
+            if (count < LEAF_CAPACITY) {
+                insertAt(node, HEADER_SIZE, count, index, value);
+                node.putInt(COUNT_OFFSET, count + 1);
+                return false;
+            }
+
+            // Split the full leaf, moving the upper half into a new right sibling
+            var keys = new int[count + 1];
+            readInts(node, HEADER_SIZE, keys, index);
+            keys[index] = value;
+            readInts(node, HEADER_SIZE + index * 4, keys, index + 1, count - index);
+
+            var half = keys.length / 2;
+            var sibling = allocate(LEAF, true);
+            writeInts(node, HEADER_SIZE, keys, 0, half);
+            node.putInt(COUNT_OFFSET, half);
+            writeInts(sibling.buffer, HEADER_SIZE, keys, half, keys.length - half);
+            sibling.buffer.putInt(COUNT_OFFSET, keys.length - half);
+            sibling.buffer.putInt(NEXT_OFFSET, node.getInt(NEXT_OFFSET));
+            node.putInt(NEXT_OFFSET, sibling.pageId);
+
+            splitKey = keys[half];
+            splitPage = sibling.pageId;
+            return true;
+        }
+
+        var index = upperBound(node, HEADER_SIZE, count, value);
+        if (!insert(childAt(node, index), value))
+            return false;
+
+        // The child split: add its new sibling, re-reading the page in case it was evicted
+        node = modify(pageId).buffer;
+        if (count < INNER_CAPACITY) {
+            insertAt(node, HEADER_SIZE, count, index, splitKey);
+            insertAt(node, CHILDREN_OFFSET, count + 1, index + 1, splitPage);
+            node.putInt(COUNT_OFFSET, count + 1);
+            return false;
+        }
+
+        // Split the full inner node, pushing the middle separator up
+        var keys = new int[count + 1];
+        readInts(node, HEADER_SIZE, keys, index);
+        keys[index] = splitKey;
+        readInts(node, HEADER_SIZE + index * 4, keys, index + 1, count - index);
+        var children = new int[count + 2];
+        readInts(node, CHILDREN_OFFSET, children, index + 1);
+        children[index + 1] = splitPage;
+        readInts(node, CHILDREN_OFFSET + (index + 1) * 4, children, index + 2, count - index);
+
+        var half = keys.length / 2;
+        var sibling = allocate(INNER, true);
+        writeInts(node, HEADER_SIZE, keys, 0, half);
+        writeInts(node, CHILDREN_OFFSET, children, 0, half + 1);
+        node.putInt(COUNT_OFFSET, half);
+        var rightCount = keys.length - half - 1;
+        writeInts(sibling.buffer, HEADER_SIZE, keys, half + 1, rightCount);
+        writeInts(sibling.buffer, CHILDREN_OFFSET, children, half + 1, rightCount + 1);
+        sibling.buffer.putInt(COUNT_OFFSET, rightCount);
+
+        splitKey = keys[half];
+        splitPage = sibling.pageId;
+        return true;
+    }
+
+    /**
+     * Deletes a value from the tree. The change is durable once this method
+     * returns. The leaf is not merged with its neighbours, even if it becomes
+     * empty.
+     *
+     * @param value the value to delete
+     * @return true if the value was found and deleted, false otherwise
+     * @throws IOException if a page or the log can't be written
+     */
+    public boolean delete(int value) throws IOException {
+        var pageId = findLeaf(value);
+        var leaf = page(pageId).buffer;
+        var count = leaf.getInt(COUNT_OFFSET);
+        var index = lowerBound(leaf, HEADER_SIZE, count, value);
+        if (index == count || keyAt(leaf, index) != value)
+            return false;
+
+        leaf = modify(pageId).buffer;
+        removeAt(leaf, HEADER_SIZE, count, index);
+        leaf.putInt(COUNT_OFFSET, count - 1);
+        size--;
+
+        commit();
+        return true;
+    }
+
+    /**
+     * Passes every value between lo and hi (inclusive) to the consumer, in
+     * ascending order, walking the linked leaves.
+     *
+     * @param lo       the lower bound of the range
+     * @param hi       the upper bound of the range
+     * @param consumer the consumer of the values
+     * @throws IOException if a page can't be read
+     */
+    public void rangeScan(int lo, int hi, IntConsumer consumer) throws IOException {
+        var pageId = findLeaf(lo);
+        var leaf = page(pageId).buffer;
+        var index = lowerBound(leaf, HEADER_SIZE, leaf.getInt(COUNT_OFFSET), lo);
+
+        while (true) {
+            for (var count = leaf.getInt(COUNT_OFFSET); index < count; index++) {
+                var key = keyAt(leaf, index);
+                if (key > hi)
+                    return;
+                consumer.accept(key);
+            }
+
+            pageId = leaf.getInt(NEXT_OFFSET);
+            if (pageId == 0)
+                return;
+
+            leaf = page(pageId).buffer;
+            index = 0;
+        }
+    }
+
+    /**
+     * Fills an empty tree with the given values, building it bottom-up one
+     * page at a time instead of inserting the values one by one. Pages are
+     * written straight to the tree file rather than through the log; the new
+     * tree only becomes visible once it is complete.
+     *
+     * @param sorted the values, in strictly ascending order
+     * @throws IOException              if a page can't be written
+     * @throws IllegalStateException    if the tree is not empty
+     * @throws IllegalArgumentException if the values are not strictly ascending
+     */
+    public void bulkLoad(int[] sorted) throws IOException {
+        if (size != 0)
+            throw new IllegalStateException("Bulk loading needs an empty tree.");
+        for (var i = 1; i < sorted.length; i++) {
+            if (sorted[i - 1] >= sorted[i])
+                throw new IllegalArgumentException("Values must be strictly ascending.");
+        }
+        if (sorted.length == 0)
+            return;
+
+        // Build the leaves, recording the first value and page of each
+        var leafCount = pagesFor(sorted.length, (int) (LEAF_CAPACITY * BULK_LOAD_FILL));
+        var firstKeys = new int[leafCount];
+        var pages = new int[leafCount];
+        Frame previous = null;
+        for (var i = 0; i < leafCount; i++) {
+            var from = (int) ((long) sorted.length * i / leafCount);
+            var to = (int) ((long) sorted.length * (i + 1) / leafCount);
+            var leaf = allocate(LEAF, false);
+            writeInts(leaf.buffer, HEADER_SIZE, sorted, from, to - from);
+            leaf.buffer.putInt(COUNT_OFFSET, to - from);
+            if (previous != null)
+                previous.buffer.putInt(NEXT_OFFSET, leaf.pageId);
+
+            firstKeys[i] = sorted[from];
+            pages[i] = leaf.pageId;
+            previous = leaf;
+        }
+
+        // Build each inner level over the one below until a single page remains
+        var levels = 0;
+        while (pages.length > 1) {
+            var nodeCount = pagesFor(pages.length, (int) ((INNER_CAPACITY + 1) * BULK_LOAD_FILL));
+            var parentKeys = new int[nodeCount];
+            var parentPages = new int[nodeCount];
+            for (var i = 0; i < nodeCount; i++) {
+                var from = (int) ((long) pages.length * i / nodeCount);
+                var to = (int) ((long) pages.length * (i + 1) / nodeCount);
+                var node = allocate(INNER, false);
+                writeInts(node.buffer, HEADER_SIZE, firstKeys, from + 1, to - from - 1);
+                writeInts(node.buffer, CHILDREN_OFFSET, pages, from, to - from);
+                node.buffer.putInt(COUNT_OFFSET, to - from - 1);
+
+                parentKeys[i] = firstKeys[from];
+                parentPages[i] = node.pageId;
+            }
+
+            firstKeys = parentKeys;
+            pages = parentPages;
+            levels++;
+        }
+
+        root = pages[0];
+        height = levels;
+        size = sorted.length;
+        checkpoint();
+    }
+
+    /**
+     * Returns the number of values in the tree.
+     *
+     * @return the number of values
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the height of the tree.
+     *
+     * @return the number of inner levels above the leaves
+     */
+    public int height() {
+        return height;
+    }
+
+    /**
+     * Writes every changed page to the tree file and empties the log.
+     * The metadata page is written last, after the others are on disk.
+     *
+     * @throws IOException if a page can't be written
+     */
+    public void checkpoint() throws IOException {
+        writeMeta();
+
+        for (var frame : pool.values()) {
+            if (frame.dirty && frame.pageId != META_PAGE)
+                writePage(frame);
+        }
+        channel.force(false);
+
+        writePage(pool.get(META_PAGE));
+        channel.force(true);
+        log.truncate(0);
+        log.force(true);
+    }
+
+    /**
+     * Checkpoints the tree and closes its files.
+     *
+     * @throws IOException if a page can't be written or a file can't be closed
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            checkpoint();
+        } finally {
+            close(channel, log);
+        }
+    }
+
+    /**
+     * Returns the leaf page whose key range covers the given value.
+     *
+     * @param value the value to search for
+     * @return the leaf that holds the value if it is present
+     * @throws IOException if a page can't be read
+     */
+    private int findLeaf(int value) throws IOException {
+        var pageId = root;
+        for (var level = 0; level < height; level++) {
+            var node = page(pageId).buffer;
+            pageId = childAt(node, upperBound(node, HEADER_SIZE, node.getInt(COUNT_OFFSET), value));
+        }
+
+        return pageId;
+    }
+
+    /**
+     * Appends the pages changed by the current operation, and the metadata
+     * page, to the log as one batch and forces it to disk. Checkpoints once
+     * the log grows past its limit.
+     *
+     * @throws IOException if the log can't be written
+     */
+    private void commit() throws IOException {
+        var meta = writeMeta();
+        if (!meta.pending) {
+            meta.pending = true;
+            pendingFrames.add(meta);
+        }
+
+        var record = ByteBuffer.allocate(pendingFrames.size() * (4 + PAGE_SIZE) + 16);
+        for (var frame : pendingFrames) {
+            record.putInt(frame.pageId);
+            record.put(frame.buffer.array());
+            frame.pending = false;
+        }
+
+        var checksum = new CRC32();
+        checksum.update(record.array(), 0, record.position());
+        record.putInt(COMMIT).putInt(pendingFrames.size()).putLong(checksum.getValue());
+        pendingFrames.clear();
+
+        record.flip();
+        while (record.hasRemaining())
+            log.write(record, log.size());
+        log.force(false);
+
+        if (log.size() > LOG_LIMIT)
+            checkpoint();
+    }
+
+    /**
+     * Replays every complete batch of the log into the tree file, ignoring a
+     * batch torn by a crash, then empties the log.
+     *
+     * @throws IOException if a file can't be read or written
+     */
+    private void recover() throws IOException {
+        var length = log.size();
+        if (length == 0)
+            return;
+
+        var buffer = ByteBuffer.allocate((int) length);
+        while (buffer.hasRemaining() && log.read(buffer, buffer.position()) >= 0)
+            ;
+        buffer.flip();
+
+        var batchStart = 0;
+        var records = 0;
+        while (buffer.remaining() >= 4) {
+            var pageId = buffer.getInt();
+            if (pageId != COMMIT) {
+                if (buffer.remaining() < PAGE_SIZE)
+                    break;
+                buffer.position(buffer.position() + PAGE_SIZE);
+                records++;
+                continue;
+            }
+
+            if (buffer.remaining() < 12)
+                break;
+            var batchEnd = buffer.position() - 4;
+            var count = buffer.getInt();
+            var checksum = new CRC32();
+            checksum.update(buffer.array(), batchStart, batchEnd - batchStart);
+            if (count != records || buffer.getLong() != checksum.getValue())
+                break;
+
+            // The batch is complete: apply its page images
+            for (var offset = batchStart; offset < batchEnd; offset += 4 + PAGE_SIZE) {
+                var page = ByteBuffer.wrap(buffer.array(), offset + 4, PAGE_SIZE);
+                var position = (long) buffer.getInt(offset) * PAGE_SIZE;
+                while (page.hasRemaining())
+                    channel.write(page, position + page.position() - offset - 4);
+            }
+
+            batchStart = buffer.position();
+            records = 0;
+        }
+
+        channel.force(true);
+        log.truncate(0);
+        log.force(true);
+    }
+
+    /**
+     * Returns the frame holding a page, reading it into the pool if needed.
+     * The frame may be evicted by the next call that reads or allocates a page.
+     *
+     * @param pageId the page to return
+     * @return the frame holding the page
+     * @throws IOException if the page can't be read
+     */
+    private Frame page(int pageId) throws IOException {
+        var frame = pool.get(pageId);
+        if (frame != null)
+            return frame;
+
+        evict();
+        frame = new Frame(pageId);
+        var buffer = frame.buffer;
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, (long) pageId * PAGE_SIZE + buffer.position()) < 0)
+                throw new EOFException("Page " + pageId + " is past the end of the file.");
+        }
+        buffer.clear();
+
+        pool.put(pageId, frame);
+        return frame;
+    }
+
+    /**
+     * Returns the frame holding a page that is about to be changed, and keeps
+     * it in the pool until it has been appended to the log.
+     *
+     * @param pageId the page to return
+     * @return the frame holding the page
+     * @throws IOException if the page can't be read
+     */
+    private Frame modify(int pageId) throws IOException {
+        var frame = page(pageId);
+        frame.dirty = true;
+        if (!frame.pending) {
+            frame.pending = true;
+            pendingFrames.add(frame);
+        }
+
+        return frame;
+    }
+
+    /**
+     * Adds an empty node page at the end of the file.
+     *
+     * @param type   the type of the node
+     * @param logged true if the page is part of the next log batch
+     * @return the frame holding the new page
+     * @throws IOException if a page can't be evicted
+     */
+    private Frame allocate(byte type, boolean logged) throws IOException {
+        evict();
+        var frame = new Frame(pageCount++);
+        frame.buffer.put(TYPE_OFFSET, type);
+        frame.dirty = true;
+        if (logged) {
+            frame.pending = true;
+            pendingFrames.add(frame);
+        }
+
+        pool.put(frame.pageId, frame);
+        return frame;
+    }
+
+    /**
+     * Makes room for one more page if the pool is full, writing back the least
+     * recently used page that is not waiting for the log. If every page is
+     * waiting, the pool grows instead.
+     *
+     * @throws IOException if the page can't be written
+     */
+    private void evict() throws IOException {
+        if (pool.size() < poolPages)
+            return;
+
+        var frames = pool.values().iterator();
+        while (frames.hasNext()) {
+            var frame = frames.next();
+            if (frame.pending || frame.pageId == META_PAGE)
+                continue;
+
+            if (frame.dirty)
+                writePage(frame);
+            frames.remove();
+            return;
+        }
+    }
+
+    /**
+     * Writes a page back to the tree file.
+     *
+     * @param frame the frame holding the page
+     * @throws IOException if the page can't be written
+     */
+    private void writePage(Frame frame) throws IOException {
+        var buffer = frame.buffer.duplicate().clear();
+        while (buffer.hasRemaining())
+            channel.write(buffer, (long) frame.pageId * PAGE_SIZE + buffer.position());
+        frame.dirty = false;
+    }
+
+    /**
+     * Stores the tree's metadata in the metadata page.
+     *
+     * @return the frame holding the metadata page
+     * @throws IOException if the page can't be read
+     */
+    private Frame writeMeta() throws IOException {
+        var meta = page(META_PAGE);
+        meta.buffer.putInt(ROOT_OFFSET, root);
+        meta.buffer.putInt(HEIGHT_OFFSET, height);
+        meta.buffer.putInt(SIZE_OFFSET, size);
+        meta.buffer.putInt(PAGE_COUNT_OFFSET, pageCount);
+        meta.dirty = true;
+
+        return meta;
+    }
+
+    /**
+     * Returns the number of pages needed to hold the given number of entries
+     * at the given number per page.
+     *
+     * @param entries the number of entries
+     * @param perPage the number of entries per page
+     * @return the number of pages
+     */
+    private static int pagesFor(int entries, int perPage) {
+        return (entries + perPage - 1) / perPage;
+    }
+
+    /**
+     * Returns the index of the first key not less than the given key.
+     *
+     * @param page   the page holding the keys
+     * @param offset the position of the first key
+     * @param count  the number of keys
+     * @param key    the key to search for
+     * @return the number of keys less than the given key
+     */
+    private static int lowerBound(ByteBuffer page, int offset, int count, int key) {
+        var low = 0;
+        var high = count;
+        while (low < high) {
+            var middle = (low + high) >>> 1;
+            if (page.getInt(offset + middle * 4) < key)
+                low = middle + 1;
+            else
+                high = middle;
+        }
+
+        return low;
+    }
+
+    /**
+     * Returns the index of the first key greater than the given key.
+     *
+     * @param page   the page holding the keys
+     * @param offset the position of the first key
+     * @param count  the number of keys
+     * @param key    the key to search for
+     * @return the number of keys not greater than the given key
+     */
+    private static int upperBound(ByteBuffer page, int offset, int count, int key) {
+        var low = 0;
+        var high = count;
+        while (low < high) {
+            var middle = (low + high) >>> 1;
+            if (page.getInt(offset + middle * 4) <= key)
+                low = middle + 1;
+            else
+                high = middle;
+        }
+
+        return low;
+    }
+
+    /**
+     * Returns a key of a node.
+     *
+     * @param page  the page of the node
+     * @param index the position of the key
+     * @return the key
+     */
+    private static int keyAt(ByteBuffer page, int index) {
+        return page.getInt(HEADER_SIZE + index * 4);
+    }
+
+    /**
+     * Returns a child page of an inner node.
+     *
+     * @param page  the page of the node
+     * @param index the position of the child
+     * @return the child page
+     */
+    private static int childAt(ByteBuffer page, int index) {
+        return page.getInt(CHILDREN_OFFSET + index * 4);
+    }
+
+    /**
+     * Shifts the ints of a page from the given index one place right and
+     * stores a value in the gap.
+     *
+     * @param page   the page to insert into
+     * @param offset the position of the first int
+     * @param count  the number of ints in use
+     * @param index  the position of the new int
+     * @param value  the value to insert
+     */
+    private static void insertAt(ByteBuffer page, int offset, int count, int index, int value) {
+        var position = offset + index * 4;
+        System.arraycopy(page.array(), position, page.array(), position + 4, (count - index) * 4);
+        page.putInt(position, value);
+    }
+
+    /**
+     * Removes the int at the given index of a page by shifting later ints left.
+     *
+     * @param page   the page to remove from
+     * @param offset the position of the first int
+     * @param count  the number of ints in use
+     * @param index  the position of the int to remove
+     */
+    private static void removeAt(ByteBuffer page, int offset, int count, int index) {
+        var position = offset + index * 4;
+        System.arraycopy(page.array(), position + 4, page.array(), position, (count - index - 1) * 4);
+    }
+
+    /**
+     * Copies ints from a page into the start of an array.
+     *
+     * @param page   the page to read from
+     * @param offset the position of the first int
+     * @param target the array to fill
+     * @param length the number of ints to copy
+     */
+    private static void readInts(ByteBuffer page, int offset, int[] target, int length) {
+        readInts(page, offset, target, 0, length);
+    }
+
+    /**
+     * Copies ints from a page into an array.
+     *
+     * @param page   the page to read from
+     * @param offset the position of the first int
+     * @param target the array to fill
+     * @param from   the first index of the array to fill
+     * @param length the number of ints to copy
+     */
+    private static void readInts(ByteBuffer page, int offset, int[] target, int from, int length) {
+        page.asIntBuffer().position(offset / 4).get(target, from, length);
+    }
+
+    /**
+     * Copies ints from an array into a page.
+     *
+     * @param page   the page to write to
+     * @param offset the position of the first int
+     * @param source the array to copy from
+     * @param from   the first index of the array to copy
+     * @param length the number of ints to copy
+     */
+    private static void writeInts(ByteBuffer page, int offset, int[] source, int from, int length) {
+        page.asIntBuffer().position(offset / 4).put(source, from, length);
+    }
+
+    /**
+     * Closes both files, closing the second even if the first fails.
+     *
+     * @param first  the first file
+     * @param second the second file
+     * @throws IOException if a file can't be closed
+     */
+    private static void close(FileChannel first, FileChannel second) throws IOException {
+        try {
+            first.close();
+        } finally {
+            second.close();
+        }
+    }
+
+    /**
+     * Main method to test the PagedBPlusTree implementation.
+     *
+     * @param args command line arguments
+     */
+    public static void main(String[] args) throws IOException {
+        var file = Files.createTempFile("tree", ".db");
+        Files.delete(file);
+
+        var sorted = new int[1_000_000];
+        for (var i = 0; i < sorted.length; i++)
+            sorted[i] = i * 2;
+
+        try (var tree = new PagedBPlusTree(file)) {
+            tree.bulkLoad(sorted);
+            System.out.println(tree.height()); // Output: 2
+            System.out.println(tree.contains(1_000)); // Output: true
+            System.out.println(tree.contains(1_001)); // Output: false
+
+            tree.insert(1_001);
+            tree.delete(1_000);
+        }
+
+        // Reopening the file restores the tree
+        try (var tree = new PagedBPlusTree(file)) {
+            System.out.println(tree.size()); // Output: 1000000
+            tree.rangeScan(997, 1_004, System.out::println); // Output: 998 1001 1002 1004
+        }
+
+        Files.delete(file);
+        Files.delete(file.resolveSibling(file.getFileName() + ".wal"));
+    }
+}
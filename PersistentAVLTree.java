@@ -0,0 +1,303 @@
+package DataStructuresAndAlgorithms;
+
+import java.util.function.IntConsumer;
+
+/**
+ * This class implements a persistent (immutable) AVL Tree.
+ * Nodes never change once created: {@link #insert(int)} and
+ * {@link #delete(int)} copy only the O(log n) nodes on the path from the
+ * root and return a new version of the tree that shares every other node
+ * with the old one. Any version can be read by any number of threads without
+ * locking, and old versions stay valid for point-in-time queries for as long
+ * as they are referenced.
+ */
+public final class PersistentAVLTree {
+
+    /**
+     * Inner class to represent the immutable nodes of the tree.
+     */
+    private static final class AVLNode {
+        private final int value; // Value stored in the node
+        private final int height; // Height of the node from the leaf
+        private final int size; // Number of nodes in the subtree rooted at this node
+        private final AVLNode leftChild; // Left child of the node
+        private final AVLNode rightChild; // Right child of the node
+
+        /**
+         * Constructs a node from its value and children, deriving its height
+         * and size from theirs.
+         *
+         * @param value      the value to store in this node
+         * @param leftChild  the left child, or null
+         * @param rightChild the right child, or null
+         */
+        public AVLNode(int value, AVLNode leftChild, AVLNode rightChild) {
+            this.value = value;
+            this.leftChild = leftChild;
+            this.rightChild = rightChild;
+            this.height = Math.max(height(leftChild), height(rightChild)) + 1;
+            this.size = size(leftChild) + size(rightChild) + 1;
+        }
+
+        @Override
+        public String toString() {
+            return "Value=" + this.value;
+        }
+    }
+
+    private static final PersistentAVLTree EMPTY = new PersistentAVLTree(null); // The shared empty version
+
+    private final AVLNode root; // Root of this version of the tree
+
+    /**
+     * Constructs a version of the tree with the given root.
+     *
+     * @param root the root of the version
+     */
+    private PersistentAVLTree(AVLNode root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty tree.
+     *
+     * @return a tree with no values
+     */
+    public static PersistentAVLTree empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a new version of the tree with the value inserted.
+     * This version is left unchanged.
+     *
+     * @param value the value to insert
+     * @return the new version
+     */
+    public PersistentAVLTree insert(int value) {
+        return new PersistentAVLTree(insert(root, value));
+    }
+
+    /**
+     * Recursive helper method to insert a value, copying the nodes on the path.
+     *
+     * @param root the root of the tree/sub-tree
+     * @param value the value to insert
+     * @return the root of the new tree/sub-tree
+     */
+    private static AVLNode insert(AVLNode root, int value) {
+        if (root == null)
+            return new AVLNode(value, null, null);
+
+        if (value < root.value)
+            return balance(root.value, insert(root.leftChild, value), root.rightChild);
+
+        return balance(root.value, root.leftChild, insert(root.rightChild, value));
+    }
+
+    /**
+     * Returns a new version of the tree with one occurrence of the value
+     * deleted, or this version if the value is absent.
+     * This version is left unchanged.
+     *
+     * @param value the value to delete
+     * @return the new version
+     */
+    public PersistentAVLTree delete(int value) {
+        if (!contains(value))
+            return this;
+
+        return new PersistentAVLTree(delete(root, value));
+    }
+
+    /**
+     * Recursive helper method to delete a value, copying the nodes on the path.
+     * The value must be present in the tree/sub-tree.
+     *
+     * @param root the root of the tree/sub-tree
+     * @param value the value to delete
+     * @return the root of the new tree/sub-tree
+     */
+    private static AVLNode delete(AVLNode root, int value) {
+        if (value < root.value)
+            return balance(root.value, delete(root.leftChild, value), root.rightChild);
+        if (value > root.value)
+            return balance(root.value, root.leftChild, delete(root.rightChild, value));
+
+        if (root.leftChild == null)
+            return root.rightChild;
+        if (root.rightChild == null)
+            return root.leftChild;
+
+        // Replace the value with the successor's and remove the successor
+        var successor = root.rightChild;
+        while (successor.leftChild != null)
+            successor = successor.leftChild;
+
+        return balance(successor.value, root.leftChild, deleteMin(root.rightChild));
+    }
+
+    /**
+     * Recursive helper method to delete the smallest node of a sub-tree.
+     *
+     * @param root the root of the sub-tree
+     * @return the root of the new sub-tree
+     */
+    private static AVLNode deleteMin(AVLNode root) {
+        if (root.leftChild == null)
+            return root.rightChild;
+
+        return balance(root.value, deleteMin(root.leftChild), root.rightChild);
+    }
+
+    /**
+     * Searches for a value in this version of the tree.
+     *
+     * @param value the value to search for
+     * @return true if the value is found, false otherwise
+     */
+    public boolean contains(int value) {
+        var current = root;
+        while (current != null) {
+            if (value < current.value) {
+                current = current.leftChild;
+            } else if (value > current.value) {
+                current = current.rightChild;
+            } else {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns the number of values in this version of the tree.
+     *
+     * @return the number of values
+     */
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * Returns the height of this version of the tree.
+     *
+     * @return the height of the tree, or -1 if it is empty
+     */
+    public int height() {
+        return height(root);
+    }
+
+    /**
+     * Passes every value between lo and hi (inclusive) to the consumer, in
+     * ascending order.
+     *
+     * @param lo       the lower bound of the range
+     * @param hi       the upper bound of the range
+     * @param consumer the consumer of the values
+     */
+    public void rangeScan(int lo, int hi, IntConsumer consumer) {
+        rangeScan(root, lo, hi, consumer);
+    }
+
+    /**
+     * Recursive helper method to scan a range of a sub-tree in order.
+     *
+     * @param root     the root of the sub-tree
+     * @param lo       the lower bound of the range
+     * @param hi       the upper bound of the range
+     * @param consumer the consumer of the values
+     */
+    private static void rangeScan(AVLNode root, int lo, int hi, IntConsumer consumer) {
+        if (root == null)
+            return;
+
+        if (lo <= root.value)
+            rangeScan(root.leftChild, lo, hi, consumer);
+        if (lo <= root.value && root.value <= hi)
+            consumer.accept(root.value);
+        if (root.value <= hi)
+            rangeScan(root.rightChild, lo, hi, consumer);
+    }
+
+    /**
+     * Builds a balanced node from a value and two sub-trees whose heights
+     * differ by at most two, rotating with fresh nodes where needed.
+     *
+     * @param value      the value of the node
+     * @param leftChild  the left sub-tree
+     * @param rightChild the right sub-tree
+     * @return the root of the balanced sub-tree
+     */
+    private static AVLNode balance(int value, AVLNode leftChild, AVLNode rightChild) {
+        if (height(leftChild) > height(rightChild) + 1) {
+            // Left heavy: rotate right, first rotating the left child left if needed
+            if (height(leftChild.leftChild) >= height(leftChild.rightChild))
+                return new AVLNode(leftChild.value, leftChild.leftChild,
+                        new AVLNode(value, leftChild.rightChild, rightChild));
+
+            var pivot = leftChild.rightChild;
+            return new AVLNode(pivot.value,
+                    new AVLNode(leftChild.value, leftChild.leftChild, pivot.leftChild),
+                    new AVLNode(value, pivot.rightChild, rightChild));
+        }
+
+        if (height(rightChild) > height(leftChild) + 1) {
+            // Right heavy: rotate left, first rotating the right child right if needed
+            if (height(rightChild.rightChild) >= height(rightChild.leftChild))
+                return new AVLNode(rightChild.value,
+                        new AVLNode(value, leftChild, rightChild.leftChild), rightChild.rightChild);
+
+            var pivot = rightChild.leftChild;
+            return new AVLNode(pivot.value,
+                    new AVLNode(value, leftChild, pivot.leftChild),
+                    new AVLNode(rightChild.value, pivot.rightChild, rightChild.rightChild));
+        }
+
+        return new AVLNode(value, leftChild, rightChild);
+    }
+
+    /**
+     * Returns the height of the given node.
+     *
+     * @param node the node whose height is to be returned
+     * @return the height of the node, or -1 if the node is null
+     */
+    private static int height(AVLNode node) {
+        return (node == null) ? -1 : node.height;
+    }
+
+    /**
+     * Returns the subtree size of the given node.
+     *
+     * @param node the node whose size is to be returned
+     * @return the number of nodes under and including the node, or 0 if the
+     *         node is null
+     */
+    private static int size(AVLNode node) {
+        return (node == null) ? 0 : node.size;
+    }
+
+    /**
+     * Main method to test the PersistentAVLTree implementation.
+     *
+     * @param args command line arguments
+     */
+    public static void main(String[] args) {
+        var versions = new PersistentAVLTree[4];
+        versions[0] = PersistentAVLTree.empty();
+        versions[1] = versions[0].insert(10).insert(20).insert(30);
+        versions[2] = versions[1].insert(40);
+        versions[3] = versions[2].delete(20);
+
+        // Every version still answers queries as of when it was created
+        System.out.println(versions[1].size()); // Output: 3
+        System.out.println(versions[2].contains(20)); // Output: true
+        System.out.println(versions[3].contains(20)); // Output: false
+        System.out.println(versions[3].contains(40)); // Output: true
+        System.out.println(versions[0].size()); // Output: 0
+
+        versions[3].rangeScan(0, 100, System.out::println); // Output: 10 30 40
+    }
+}
@@ -1,14 +1,15 @@
 package DataStructuresAndAlgorithms.PraticeProblems;
 
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Set;
 
+import DataStructuresAndAlgorithms.IntIntMap;
+
 /**
  * This class provides a solution to the problem of finding the first
  * non-repeated character in a string.
- * The solution uses a HashMap to store the count of each character in the
- * string.
+ * The solution uses an IntIntMap to store the count of each character in the
+ * string, so the counts are never boxed.
  */
 public class FirstNonRepeatedCharacter {
 
@@ -22,21 +23,20 @@ public class FirstNonRepeatedCharacter {
      */
     public static Character findFirstNonRepeatedCharacter(String string) {
 
-        // Create a HashMap to store the count of each character
-        HashMap<Character, Integer> map = new HashMap<Character, Integer>();
+        // Create an IntIntMap to store the count of each character
+        var map = new IntIntMap();
 
         // Convert the string to a char array for easy iteration
         var chars = string.toCharArray();
 
-        // Populate the HashMap with the count of each character
+        // Populate the IntIntMap with the count of each character
         for (char ch : chars) {
-            var count = map.containsKey(ch) ? map.get(ch) : 0;
-            map.put(ch, count + 1);
+            map.addTo(ch, 1);
         }
 
         // Iterate through the char array to find the first non-repeated character
         for (char ch : chars) {
-            if (map.get(ch) == 1)
+            if (map.getOrDefault(ch, 0) == 1)
                 return ch;
         }
 
@@ -0,0 +1,209 @@
+package DataStructuresAndAlgorithms;
+
+/**
+ * This class holds the open-addressing logic shared by the primitive maps
+ * ({@link IntIntMap}, {@link IntLongMap}, {@link IntObjectMap} and
+ * {@link LongObjectMap}).
+ * It tracks which slots are in use, sizes the table to a power of two within
+ * the load factor, and performs linear-probing removal by backward shifting.
+ * Subclasses own the key and value arrays and move entries between slots
+ * when asked to.
+ */
+abstract class PrimitiveHashCore {
+    private static final int MIN_CAPACITY = 16; // Smallest table allocated
+    private static final int MAX_CAPACITY = 1 << 30; // Largest table allocated
+    protected static final float DEFAULT_LOAD_FACTOR = 0.5f; // Default fill ratio before growing
+
+    protected boolean[] used; // Marks the slots holding an entry
+    protected int mask; // capacity - 1, used to wrap slot indexes
+    protected int size; // The number of entries in the map
+    private int threshold; // The size at which the table is grown
+    private final float loadFactor; // The maximum fill ratio of the table
+
+    /**
+     * Constructs an empty table able to hold the given number of entries
+     * without growing. Calls {@link #allocate(int)}, so subclasses must not
+     * rely on their own field initializers there.
+     *
+     * @param expectedSize the number of entries expected
+     * @param loadFactor   the maximum fill ratio, between 0 and 1 (exclusive)
+     * @throws IllegalArgumentException if the arguments are out of range
+     */
+    protected PrimitiveHashCore(int expectedSize, float loadFactor) {
+        if (expectedSize < 0)
+            throw new IllegalArgumentException("Expected size can't be negative.");
+        if (!(loadFactor > 0 && loadFactor < 1))
+            throw new IllegalArgumentException("Load factor must be between 0 and 1.");
+
+        this.loadFactor = loadFactor;
+        var capacity = capacityFor(expectedSize);
+        swapTables(capacity);
+        allocate(capacity);
+    }
+
+    /**
+     * Spreads the bits of an int key over the table.
+     *
+     * @param key the key to be hashed
+     * @return the mixed hash of the key
+     */
+    protected static int mix(int key) {
+        var h = key * 0x9E3779B9; // Fibonacci multiplier
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Spreads the bits of a long key over the table.
+     *
+     * @param key the key to be hashed
+     * @return the mixed hash of the key
+     */
+    protected static int mix(long key) {
+        var h = key * 0x9E3779B97F4A7C15L; // 64-bit Fibonacci multiplier
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * Allocates empty key and value arrays of the given capacity.
+     *
+     * @param capacity the number of slots
+     */
+    protected abstract void allocate(int capacity);
+
+    /**
+     * Returns the home slot of the key stored in a slot.
+     *
+     * @param slot an occupied slot
+     * @return the slot where the key's probe sequence starts
+     */
+    protected abstract int homeSlot(int slot);
+
+    /**
+     * Copies the entry in one slot to another slot.
+     *
+     * @param from the occupied source slot
+     * @param to   the destination slot
+     */
+    protected abstract void moveEntry(int from, int to);
+
+    /**
+     * Releases any reference held by a slot that has just been freed.
+     *
+     * @param slot the freed slot
+     */
+    protected abstract void clearEntry(int slot);
+
+    /**
+     * Moves every entry into freshly allocated arrays of the given capacity.
+     * Implementations call {@link #swapTables(int)} and {@link #allocate(int)},
+     * then place each old entry with {@link #freeSlot(int)}.
+     *
+     * @param capacity the new capacity, a power of two
+     */
+    protected abstract void rehash(int capacity);
+
+    /**
+     * Returns the number of entries in this map.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the map is empty.
+     *
+     * @return true if the map contains no entries, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the first unused slot at or after the given slot.
+     *
+     * @param slot the slot where probing starts
+     * @return an unused slot
+     */
+    protected int freeSlot(int slot) {
+        while (used[slot])
+            slot = (slot + 1) & mask;
+
+        return slot;
+    }
+
+    /**
+     * Marks a slot as used after the subclass has stored an entry in it, and
+     * grows the table once the load factor is exceeded.
+     *
+     * @param slot the slot that was filled
+     */
+    protected void entryAdded(int slot) {
+        used[slot] = true;
+        if (++size > threshold) {
+            if (used.length == MAX_CAPACITY)
+                throw new IllegalStateException("Map is full.");
+            rehash(used.length << 1);
+        }
+    }
+
+    /**
+     * Empties a slot and shifts later entries of the same probe run back, so
+     * that every remaining key stays reachable without leaving a tombstone.
+     *
+     * @param slot the occupied slot to empty
+     */
+    protected void deleteSlot(int slot) {
+        var hole = slot;
+        var next = (hole + 1) & mask;
+        while (used[next]) {
+            var home = homeSlot(next);
+            // Move the entry only if the hole lies on its probe path
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                moveEntry(next, hole);
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+
+        used[hole] = false;
+        clearEntry(hole);
+        size--;
+    }
+
+    /**
+     * Replaces the used-slot marks with an empty array of the given capacity
+     * and returns the old one, for use by {@link #rehash(int)}.
+     *
+     * @param capacity the new capacity, a power of two
+     * @return the used-slot marks of the old table
+     */
+    protected boolean[] swapTables(int capacity) {
+        var oldUsed = used;
+        used = new boolean[capacity];
+        mask = capacity - 1;
+        threshold = (int) (capacity * loadFactor);
+
+        return oldUsed;
+    }
+
+    /**
+     * Returns the smallest power-of-two capacity that holds the given number of
+     * entries within the load factor.
+     *
+     * @param expectedSize the number of entries expected
+     * @return the table capacity
+     */
+    private int capacityFor(int expectedSize) {
+        var needed = (long) Math.ceil(expectedSize / (double) loadFactor) + 1;
+        var capacity = MIN_CAPACITY;
+        while (capacity < needed) {
+            if (capacity == MAX_CAPACITY)
+                throw new IllegalArgumentException("Expected size is too large.");
+            capacity <<= 1;
+        }
+
+        return capacity;
+    }
+}
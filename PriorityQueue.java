@@ -6,9 +6,29 @@ import java.util.Arrays;
  * This class implements a priority queue using an array.
  */
 public class PriorityQueue {
-    private int[] items = new int[5]; // Array to hold the elements of the queue
+    private final int[] items; // Array to hold the elements of the queue
     private int count; // Current number of elements in the queue
 
+    /**
+     * Constructs an empty queue able to hold 5 items.
+     */
+    public PriorityQueue() {
+        this(5);
+    }
+
+    /**
+     * Constructs an empty queue able to hold the given number of items.
+     *
+     * @param capacity the maximum number of items
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public PriorityQueue(int capacity) {
+        if (capacity < 0)
+            throw new IllegalArgumentException("Capacity can't be negative.");
+
+        items = new int[capacity];
+    }
+
     /**
      * Adds an item to the queue in a position based on its priority.
      *
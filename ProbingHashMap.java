@@ -0,0 +1,709 @@
+package DataStructuresAndAlgorithms;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * This class implements a hash map using open addressing with linear probing.
+ * The hash map associates integer keys with string values, like {@link HashMap},
+ * but stores them in parallel key and value arrays instead of chained entries,
+ * so no object is allocated per mapping.
+ * The table capacity is always a power of two and doubles once the load factor
+ * is exceeded. Removals use backward-shift deletion, so no tombstones are left
+ * behind.
+ * The table can be written to a binary snapshot and loaded back without
+ * rehashing, and an optional change log records the writes made since the
+ * last snapshot.
+ */
+public class ProbingHashMap {
+    private static final int DEFAULT_CAPACITY = 16; // Capacity of a new map
+    private static final float DEFAULT_LOAD_FACTOR = 0.5f; // Default fill ratio before growing
+    private static final int SNAPSHOT_MAGIC = 0x50484D31; // "PHM1"
+    private static final int SNAPSHOT_VERSION = 1; // Version of the snapshot layout
+    private static final int SNAPSHOT_HEADER_SIZE = 20; // Magic, version, capacity, size, load factor
+    private static final int IO_BUFFER_SIZE = 1 << 16; // Bytes buffered per snapshot write
+    private static final byte LOG_PUT = 1; // Change log record: key, length, UTF-8 value
+    private static final byte LOG_REMOVE = 2; // Change log record: key
+
+    private int[] keys; // The keys, indexed by slot
+    private String[] values; // The values, indexed by slot; null marks a free slot
+    private int mask; // capacity - 1, used to wrap slot indexes
+    private int size; // The number of mappings in the map
+    private int threshold; // The size at which the table is grown
+    private final float loadFactor; // The maximum fill ratio of the table
+    private FileChannel changeLog; // Receives every write when attached, or null
+    private ByteBuffer logBuffer; // Reused to encode change log records
+
+    /**
+     * Constructs an empty map with the default capacity and load factor.
+     */
+    public ProbingHashMap() {
+        this(0, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Constructs an empty map able to hold the given number of mappings without
+     * growing.
+     *
+     * @param expectedSize the number of mappings expected
+     */
+    public ProbingHashMap(int expectedSize) {
+        this(expectedSize, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Constructs an empty map able to hold the given number of mappings without
+     * growing, using the given load factor.
+     *
+     * @param expectedSize the number of mappings expected
+     * @param loadFactor   the maximum fill ratio, between 0 and 1 (exclusive)
+     * @throws IllegalArgumentException if the arguments are out of range
+     */
+    public ProbingHashMap(int expectedSize, float loadFactor) {
+        if (expectedSize < 0)
+            throw new IllegalArgumentException("Expected size can't be negative.");
+        if (!(loadFactor > 0 && loadFactor < 1))
+            throw new IllegalArgumentException("Load factor must be between 0 and 1.");
+
+        this.loadFactor = loadFactor;
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * Spreads the bits of a key so that sequential and negative keys are
+     * distributed evenly over a power-of-two table.
+     *
+     * @param key the key to be hashed
+     * @return the mixed hash of the key
+     */
+    private static int mix(int key) {
+        var h = key * 0x9E3779B9; // Fibonacci multiplier
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Returns the slot where the probe sequence of a key starts.
+     *
+     * @param key the key to be hashed
+     * @return the home slot of the key
+     */
+    private int slot(int key) {
+        return mix(key) & mask;
+    }
+
+    /**
+     * Associates the specified value with the specified key in this map.
+     * If the map previously contained a mapping for the key, the old value is
+     * replaced.
+     *
+     * @param key   the key with which the specified value is to be associated
+     * @param value the value to be associated with the specified key
+     * @throws IllegalArgumentException if the value is null
+     */
+    public void put(int key, String value) {
+        if (value == null)
+            throw new IllegalArgumentException("Value can't be null.");
+
+        if (changeLog != null)
+            logPut(key, value);
+
+        var index = slot(key);
+        while (values[index] != null) {
+            if (keys[index] == key) {
+                values[index] = value;
+                return;
+            }
+            index = (index + 1) & mask;
+        }
+
+        keys[index] = key;
+        values[index] = value;
+        if (++size > threshold)
+            resize(keys.length << 1);
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped,
+     * or null if this map contains no mapping for the key.
+     *
+     * @param key the key whose associated value is to be returned
+     * @return the value to which the specified key is mapped, or null if this map
+     *         contains no mapping for the key
+     */
+    public String get(int key) {
+        var index = indexOf(key);
+
+        return (index < 0) ? null : values[index];
+    }
+
+    /**
+     * Checks if this map contains a mapping for the specified key.
+     *
+     * @param key the key to look for
+     * @return true if the key is present, false otherwise
+     */
+    public boolean containsKey(int key) {
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * Removes the mapping for a key from this map if it is present.
+     *
+     * @param key the key whose mapping is to be removed from the map
+     * @throws IllegalStateException if the specified key is not present in the map
+     */
+    public void remove(int key) {
+        var index = indexOf(key);
+
+        if (index < 0)
+            throw new IllegalStateException("Invalid key removal");
+
+        if (changeLog != null)
+            logRemove(key);
+        deleteSlot(index);
+    }
+
+    /**
+     * Returns the values mapped to each of the given keys.
+     * The home slots of all keys are computed first and the table is then
+     * probed in ascending slot order, so a large batch walks the arrays
+     * front to back instead of jumping around at random.
+     *
+     * @param keys the keys whose values are to be returned
+     * @return an array holding, for each key, its value or null if the key is
+     *         absent
+     */
+    public String[] getAll(int[] keys) {
+        var results = new String[keys.length];
+        for (var packed : slotOrder(keys)) {
+            var i = (int) packed;
+            results[i] = get(keys[i]);
+        }
+
+        return results;
+    }
+
+    /**
+     * Associates each of the given keys with the value at the same position.
+     * The table is grown at most once, before any key is inserted, and keys
+     * are then inserted in ascending slot order.
+     *
+     * @param keys   the keys to be inserted or updated
+     * @param values the values to be associated with the keys
+     * @throws IllegalArgumentException if the arrays differ in length or a value
+     *                                  is null
+     */
+    public void putAll(int[] keys, String[] values) {
+        if (keys.length != values.length)
+            throw new IllegalArgumentException("Keys and values must have the same length.");
+        for (var value : values) {
+            if (value == null)
+                throw new IllegalArgumentException("Value can't be null.");
+        }
+
+        ensureCapacity(size + keys.length);
+
+        // The table can't grow below, so the slot order stays valid
+        for (var packed : slotOrder(keys)) {
+            var i = (int) packed;
+            put(keys[i], values[i]);
+        }
+    }
+
+    /**
+     * Removes the mappings for all of the given keys that are present.
+     * Unlike {@link #remove(int)}, absent keys are skipped rather than treated
+     * as an error.
+     *
+     * @param keys the keys whose mappings are to be removed
+     * @return the number of mappings removed
+     */
+    public int removeAll(int[] keys) {
+        var removed = 0;
+        for (var packed : slotOrder(keys)) {
+            var key = keys[(int) packed];
+            var index = indexOf(key);
+            if (index >= 0) {
+                if (changeLog != null)
+                    logRemove(key);
+                deleteSlot(index);
+                removed++;
+            }
+        }
+
+        return removed;
+    }
+
+    /**
+     * Grows the table, if needed, so that it holds the given number of
+     * mappings without further resizing.
+     *
+     * @param expectedSize the number of mappings expected
+     */
+    public void ensureCapacity(int expectedSize) {
+        if (expectedSize > threshold)
+            resize(capacityFor(expectedSize));
+    }
+
+    /**
+     * Writes the whole table to a snapshot file, replacing the file if it
+     * exists. The snapshot holds a header, the key array and one
+     * length-prefixed UTF-8 value per slot (-1 for a free slot), so it can be
+     * loaded back slot for slot without rehashing.
+     * The snapshot is written to a temporary file next to the target, forced
+     * to disk and then atomically moved over the target, so a crash leaves
+     * either the old or the new snapshot in place, never a partial one.
+     * If a change log is attached, it is truncated once the snapshot is
+     * in place, since the snapshot now contains every logged write.
+     *
+     * @param file the file to write the snapshot to
+     * @throws IOException if the snapshot can't be written
+     */
+    public void writeSnapshot(Path file) throws IOException {
+        var temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (var channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            var buffer = ByteBuffer.allocate(IO_BUFFER_SIZE);
+            buffer.putInt(SNAPSHOT_MAGIC)
+                    .putInt(SNAPSHOT_VERSION)
+                    .putInt(keys.length)
+                    .putInt(size)
+                    .putFloat(loadFactor);
+
+            for (var key : keys) {
+                if (buffer.remaining() < Integer.BYTES)
+                    flush(channel, buffer);
+                buffer.putInt(key);
+            }
+
+            for (var value : values) {
+                var bytes = (value == null) ? null : value.getBytes(StandardCharsets.UTF_8);
+                var length = (bytes == null) ? 0 : bytes.length;
+                if (buffer.remaining() < Integer.BYTES + length)
+                    flush(channel, buffer);
+
+                if (bytes == null) {
+                    buffer.putInt(-1);
+                } else if (buffer.remaining() >= Integer.BYTES + length) {
+                    buffer.putInt(length).put(bytes);
+                } else {
+                    // Values larger than the buffer are written directly
+                    buffer.putInt(length);
+                    flush(channel, buffer);
+                    writeFully(channel, ByteBuffer.wrap(bytes));
+                }
+            }
+
+            flush(channel, buffer);
+            channel.force(true);
+        }
+
+        Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        if (changeLog != null)
+            changeLog.truncate(0);
+    }
+
+    /**
+     * Loads a map from a snapshot written by {@link #writeSnapshot(Path)}.
+     * The file is read with a single bulk read and the table is rebuilt at
+     * its original capacity, slot for slot, without rehashing.
+     *
+     * @param file the snapshot file
+     * @return the loaded map
+     * @throws IOException              if the snapshot can't be read
+     * @throws IllegalArgumentException if the file is not a valid snapshot
+     */
+    public static ProbingHashMap readSnapshot(Path file) throws IOException {
+        var buffer = readFully(file);
+        if (buffer.remaining() < SNAPSHOT_HEADER_SIZE || buffer.getInt() != SNAPSHOT_MAGIC
+                || buffer.getInt() != SNAPSHOT_VERSION)
+            throw new IllegalArgumentException("Not a snapshot file: " + file);
+
+        var capacity = buffer.getInt();
+        var size = buffer.getInt();
+        var loadFactor = buffer.getFloat();
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1 || size < 0 || size > (int) (capacity * loadFactor)
+                || !(loadFactor > 0 && loadFactor < 1)
+                || buffer.remaining() < (long) capacity * Integer.BYTES)
+            throw new IllegalArgumentException("Corrupt snapshot file: " + file);
+
+        var map = new ProbingHashMap(0, loadFactor);
+        map.allocate(capacity);
+        buffer.asIntBuffer().get(map.keys);
+        buffer.position(buffer.position() + capacity * Integer.BYTES);
+
+        var count = 0;
+        for (var i = 0; i < capacity; i++) {
+            if (buffer.remaining() < Integer.BYTES)
+                throw new IllegalArgumentException("Corrupt snapshot file: " + file);
+            var length = buffer.getInt();
+            if (length == -1)
+                continue;
+            if (length < 0 || buffer.remaining() < length)
+                throw new IllegalArgumentException("Corrupt snapshot file: " + file);
+
+            map.values[i] = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+            count++;
+        }
+
+        if (count != size)
+            throw new IllegalArgumentException("Corrupt snapshot file: " + file);
+
+        map.size = size;
+        return map;
+    }
+
+    /**
+     * Loads a map from a snapshot and replays the change log written since
+     * that snapshot was taken. A record cut short by a crash at the end of the
+     * log is ignored.
+     *
+     * @param snapshot  the snapshot file
+     * @param changeLog the change log file; ignored if it does not exist
+     * @return the loaded map
+     * @throws IOException if either file can't be read
+     */
+    public static ProbingHashMap readSnapshot(Path snapshot, Path changeLog) throws IOException {
+        var map = readSnapshot(snapshot);
+        if (!Files.exists(changeLog))
+            return map;
+
+        var buffer = readFully(changeLog);
+        while (buffer.remaining() >= 1 + Integer.BYTES) {
+            var operation = buffer.get();
+            var key = buffer.getInt();
+
+            if (operation == LOG_REMOVE) {
+                var index = map.indexOf(key);
+                if (index >= 0)
+                    map.deleteSlot(index);
+            } else if (operation == LOG_PUT) {
+                if (buffer.remaining() < Integer.BYTES)
+                    break;
+                var length = buffer.getInt();
+                if (length < 0 || buffer.remaining() < length)
+                    break;
+
+                map.put(key, new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8));
+                buffer.position(buffer.position() + length);
+            } else {
+                throw new IllegalArgumentException("Corrupt change log: " + changeLog);
+            }
+        }
+
+        return map;
+    }
+
+    /**
+     * Starts appending every put and remove to the given change log file, so
+     * writes made after the last snapshot survive a restart. Records are
+     * appended to any existing contents of the file.
+     *
+     * @param file the change log file
+     * @throws IOException if the file can't be opened
+     */
+    public void openChangeLog(Path file) throws IOException {
+        closeChangeLog();
+
+        changeLog = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        logBuffer = ByteBuffer.allocate(IO_BUFFER_SIZE);
+    }
+
+    /**
+     * Stops logging changes and closes the change log, if one is attached.
+     *
+     * @throws IOException if the file can't be closed
+     */
+    public void closeChangeLog() throws IOException {
+        if (changeLog == null)
+            return;
+
+        changeLog.close();
+        changeLog = null;
+        logBuffer = null;
+    }
+
+    /**
+     * Appends a put record to the change log.
+     *
+     * @param key   the key being put
+     * @param value the value being put
+     */
+    private void logPut(int key, String value) {
+        var bytes = value.getBytes(StandardCharsets.UTF_8);
+        var record = (logBuffer.capacity() >= 1 + 2 * Integer.BYTES + bytes.length) ? logBuffer.clear()
+                : ByteBuffer.allocate(1 + 2 * Integer.BYTES + bytes.length);
+
+        appendLog(record.put(LOG_PUT).putInt(key).putInt(bytes.length).put(bytes));
+    }
+
+    /**
+     * Appends a remove record to the change log.
+     *
+     * @param key the key being removed
+     */
+    private void logRemove(int key) {
+        appendLog(logBuffer.clear().put(LOG_REMOVE).putInt(key));
+    }
+
+    /**
+     * Writes an encoded record to the change log.
+     *
+     * @param record the record, positioned at its end
+     */
+    private void appendLog(ByteBuffer record) {
+        try {
+            writeFully(changeLog, record.flip());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes the buffered bytes to the channel and empties the buffer.
+     *
+     * @param channel the channel to write to
+     * @param buffer  the buffer, positioned at the end of its data
+     * @throws IOException if the bytes can't be written
+     */
+    private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        writeFully(channel, buffer.flip());
+        buffer.clear();
+    }
+
+    /**
+     * Writes all remaining bytes of a buffer to a channel.
+     *
+     * @param channel the channel to write to
+     * @param buffer  the bytes to write
+     * @throws IOException if the bytes can't be written
+     */
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining())
+            channel.write(buffer);
+    }
+
+    /**
+     * Reads a whole file into a heap buffer with a single bulk read.
+     *
+     * @param file the file to read
+     * @return a buffer holding the file contents, positioned at the start
+     * @throws IOException if the file can't be read or is larger than 2 GB
+     */
+    private static ByteBuffer readFully(Path file) throws IOException {
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE - 8)
+                throw new IOException("File is too large to load: " + file);
+
+            var buffer = ByteBuffer.allocate((int) channel.size());
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0)
+                ;
+
+            return buffer.flip();
+        }
+    }
+
+    /**
+     * Returns the positions of the given keys sorted by their home slot.
+     * Each element packs the home slot in the high 32 bits and the position
+     * in the keys array in the low 32 bits.
+     *
+     * @param keys the keys to be ordered
+     * @return the packed slot and position of each key, in slot order
+     */
+    private long[] slotOrder(int[] keys) {
+        var order = new long[keys.length];
+        for (var i = 0; i < keys.length; i++)
+            order[i] = ((long) slot(keys[i]) << 32) | i;
+
+        Arrays.sort(order);
+        return order;
+    }
+
+    /**
+     * Returns the number of mappings in this map.
+     *
+     * @return the number of mappings
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the map is empty.
+     *
+     * @return true if the map contains no mappings, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the slot holding the specified key, or -1 if the key is absent.
+     *
+     * @param key the key to look for
+     * @return the slot of the key, or -1 if the key is absent
+     */
+    private int indexOf(int key) {
+        var index = slot(key);
+        while (values[index] != null) {
+            if (keys[index] == key)
+                return index;
+            index = (index + 1) & mask;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Empties the given slot and shifts later entries of the same probe run
+     * back, so that every remaining key stays reachable from its home slot
+     * without leaving a tombstone.
+     *
+     * @param index the slot to empty
+     */
+    private void deleteSlot(int index) {
+        var hole = index;
+        var next = (hole + 1) & mask;
+        while (values[next] != null) {
+            var home = slot(keys[next]);
+            // Move the entry only if the hole lies on its probe path
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+
+        values[hole] = null;
+        size--;
+    }
+
+    /**
+     * Returns the smallest power-of-two capacity that holds the given number of
+     * mappings within the load factor.
+     *
+     * @param expectedSize the number of mappings expected
+     * @return the table capacity
+     */
+    private int capacityFor(int expectedSize) {
+        var needed = (long) Math.ceil(expectedSize / (double) loadFactor) + 1;
+        var capacity = DEFAULT_CAPACITY;
+        while (capacity < needed) {
+            if (capacity == 1 << 30)
+                throw new IllegalStateException("Map is full.");
+            capacity <<= 1;
+        }
+
+        return capacity;
+    }
+
+    /**
+     * Replaces the table with empty arrays of the given capacity.
+     *
+     * @param capacity the new capacity, a power of two
+     */
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new String[capacity];
+        mask = capacity - 1;
+        threshold = (int) (capacity * loadFactor);
+    }
+
+    /**
+     * Moves every mapping into a table of the given capacity.
+     *
+     * @param capacity the new capacity, a power of two
+     */
+    private void resize(int capacity) {
+        if (capacity <= 0)
+            throw new IllegalStateException("Map is full.");
+
+        var oldKeys = keys;
+        var oldValues = values;
+        allocate(capacity);
+
+        for (var i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] == null)
+                continue;
+
+            var index = slot(oldKeys[i]);
+            while (values[index] != null)
+                index = (index + 1) & mask;
+
+            keys[index] = oldKeys[i];
+            values[index] = oldValues[i];
+        }
+    }
+
+    /**
+     * Main method to test the ProbingHashMap implementation with sample
+     * operations.
+     *
+     * @param args command line arguments (not used)
+     */
+    public static void main(String[] args) throws IOException {
+        ProbingHashMap map = new ProbingHashMap();
+        map.put(6, "A");
+        map.put(8, "B");
+        map.put(-11, "C");
+        map.put(6, "A+");
+
+        System.out.println(map.get(6)); // Output: A+
+        System.out.println(map.get(-11)); // Output: C
+        System.out.println(map.get(10)); // Output: null
+
+        map.remove(6);
+        System.out.println(map.containsKey(6)); // Output: false
+
+        // Grow well past the initial capacity and remove every other key
+        for (var i = 0; i < 1000; i++)
+            map.put(i, "V" + i);
+        for (var i = 0; i < 1000; i += 2)
+            map.remove(i);
+
+        System.out.println(map.size()); // Output: 501
+        System.out.println(map.get(999)); // Output: V999
+        System.out.println(map.get(998)); // Output: null
+
+        // Batch operations over the same keys
+        var batch = new int[] { 999, 998, -11, 5000 };
+        map.putAll(new int[] { 5000, 5001 }, new String[] { "X", "Y" });
+        System.out.println(Arrays.toString(map.getAll(batch))); // Output: [V999, null, C, X]
+        System.out.println(map.removeAll(batch)); // Output: 3
+
+        // Snapshot the map, keep logging changes, then reload both
+        var snapshot = Files.createTempFile("probing-hash-map", ".snapshot");
+        var changeLog = Files.createTempFile("probing-hash-map", ".log");
+        map.openChangeLog(changeLog);
+        map.writeSnapshot(snapshot);
+        map.put(7, "Logged");
+        map.remove(997);
+        map.closeChangeLog();
+
+        var reloaded = readSnapshot(snapshot, changeLog);
+        System.out.println(reloaded.size()); // Output: 499
+        System.out.println(reloaded.get(7)); // Output: Logged
+        System.out.println(reloaded.get(997)); // Output: null
+        Files.delete(snapshot);
+        Files.delete(changeLog);
+
+        // Attempt to remove a key that doesn't exist
+        try {
+            map.remove(60);
+        } catch (IllegalStateException e) {
+            System.out.println(e.getMessage()); // Output: Invalid key removal
+        }
+    }
+}
@@ -0,0 +1,332 @@
+package DataStructuresAndAlgorithms;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * This class implements a thread-safe hash map that associates integer keys
+ * with string values, with the same API as {@link HashMap}.
+ * The map is split into lock-striped segments: writers lock only the segment
+ * their key hashes to, while readers never lock. Each segment publishes its
+ * bucket chains through volatile reads and writes, and chains are never
+ * modified in place, so a reader always sees a consistent chain.
+ * Segments grow independently, so a resize only blocks writers of the
+ * segment being resized.
+ */
+public class StripedHashMap {
+    private static final int DEFAULT_SEGMENTS = 16; // Number of lock stripes in a new map
+    private static final int INITIAL_SEGMENT_CAPACITY = 16; // Buckets per segment in a new map
+    private static final float LOAD_FACTOR = 0.75f; // Entries per bucket before a segment grows
+
+    /**
+     * This class represents an entry in a bucket chain.
+     * Only the value can change once the entry is published.
+     */
+    private static class Node {
+        private final int key; // The key of this entry
+        private volatile String value; // The value associated with the key
+        private final Node next; // The next entry in the chain
+
+        /**
+         * Constructs a new Node with the specified key, value and successor.
+         *
+         * @param key   the key of this entry
+         * @param value the value associated with the key
+         * @param next  the next entry in the chain
+         */
+        public Node(int key, String value, Node next) {
+            this.key = key;
+            this.value = value;
+            this.next = next;
+        }
+    }
+
+    /**
+     * This class represents one lock stripe: a small chained hash table whose
+     * writers hold the segment lock.
+     */
+    private static class Segment {
+        private final ReentrantLock lock = new ReentrantLock(); // Held by writers of this segment
+        private volatile AtomicReferenceArray<Node> table; // The bucket chains of this segment
+        private volatile int count; // The number of entries in this segment
+        private int threshold; // The count at which this segment grows
+
+        /**
+         * Constructs an empty segment with the given number of buckets.
+         *
+         * @param capacity the number of buckets, a power of two
+         */
+        public Segment(int capacity) {
+            setTable(new AtomicReferenceArray<>(capacity));
+        }
+
+        /**
+         * Returns the value associated with the key, without locking.
+         *
+         * @param key  the key to look up
+         * @param hash the mixed hash of the key
+         * @return the value, or null if the key is absent
+         */
+        public String get(int key, int hash) {
+            var tab = table;
+            var node = tab.get(hash & (tab.length() - 1));
+            while (node != null) {
+                if (node.key == key)
+                    return node.value;
+                node = node.next;
+            }
+
+            return null;
+        }
+
+        /**
+         * Associates the value with the key.
+         *
+         * @param key   the key to insert or update
+         * @param hash  the mixed hash of the key
+         * @param value the value to associate
+         */
+        public void put(int key, int hash, String value) {
+            lock.lock();
+            try {
+                var tab = table;
+                var index = hash & (tab.length() - 1);
+                var head = tab.get(index);
+                for (var node = head; node != null; node = node.next) {
+                    if (node.key == key) {
+                        node.value = value;
+                        return;
+                    }
+                }
+
+                tab.set(index, new Node(key, value, head));
+                if (++count > threshold)
+                    rehash();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Removes the key from this segment.
+         * The entries before the removed one are copied, so that concurrent
+         * readers walking the old chain are not affected.
+         *
+         * @param key  the key to remove
+         * @param hash the mixed hash of the key
+         * @return true if the key was removed, false if it was absent
+         */
+        public boolean remove(int key, int hash) {
+            lock.lock();
+            try {
+                var tab = table;
+                var index = hash & (tab.length() - 1);
+                var head = tab.get(index);
+
+                var target = head;
+                while (target != null && target.key != key)
+                    target = target.next;
+                if (target == null)
+                    return false;
+
+                var newHead = target.next;
+                for (var node = head; node != target; node = node.next)
+                    newHead = new Node(node.key, node.value, newHead);
+
+                tab.set(index, newHead);
+                count--;
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Doubles the number of buckets of this segment.
+         * The new table is filled with copies of the entries and published in a
+         * single volatile write, so readers see either the old or the new table.
+         * Must be called with the segment lock held.
+         */
+        private void rehash() {
+            var oldTab = table;
+            var newTab = new AtomicReferenceArray<Node>(oldTab.length() * 2);
+            var mask = newTab.length() - 1;
+
+            for (var i = 0; i < oldTab.length(); i++) {
+                for (var node = oldTab.get(i); node != null; node = node.next) {
+                    var index = mix(node.key) & mask;
+                    newTab.set(index, new Node(node.key, node.value, newTab.get(index)));
+                }
+            }
+
+            setTable(newTab);
+        }
+
+        /**
+         * Publishes a new table and recomputes the growth threshold.
+         *
+         * @param newTable the table to publish
+         */
+        private void setTable(AtomicReferenceArray<Node> newTable) {
+            threshold = (int) (newTable.length() * LOAD_FACTOR);
+            table = newTable;
+        }
+    }
+
+    private final Segment[] segments; // The lock stripes of the map
+    private final int segmentShift; // Shift selecting the segment bits of a hash
+
+    /**
+     * Constructs an empty map with the default number of segments.
+     */
+    public StripedHashMap() {
+        this(DEFAULT_SEGMENTS);
+    }
+
+    /**
+     * Constructs an empty map with at least the given number of segments.
+     * More segments allow more writers to proceed in parallel.
+     *
+     * @param concurrencyLevel the expected number of concurrent writers
+     * @throws IllegalArgumentException if the concurrency level is not positive
+     */
+    public StripedHashMap(int concurrencyLevel) {
+        if (concurrencyLevel <= 0 || concurrencyLevel > 1 << 16)
+            throw new IllegalArgumentException("Concurrency level must be between 1 and 65536.");
+
+        var count = 1;
+        var bits = 0;
+        while (count < concurrencyLevel) {
+            count <<= 1;
+            bits++;
+        }
+
+        segments = new Segment[count];
+        for (var i = 0; i < count; i++)
+            segments[i] = new Segment(INITIAL_SEGMENT_CAPACITY);
+        segmentShift = 32 - bits;
+    }
+
+    /**
+     * Spreads the bits of a key so that sequential and negative keys are
+     * distributed evenly over segments and buckets.
+     *
+     * @param key the key to be hashed
+     * @return the mixed hash of the key
+     */
+    private static int mix(int key) {
+        var h = key * 0x9E3779B9; // Fibonacci multiplier
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Returns the segment responsible for the given hash.
+     * The high bits pick the segment and the low bits pick the bucket.
+     *
+     * @param hash the mixed hash of a key
+     * @return the segment owning the key
+     */
+    private Segment segmentFor(int hash) {
+        return segments.length == 1 ? segments[0] : segments[hash >>> segmentShift];
+    }
+
+    /**
+     * Associates the specified value with the specified key in this map.
+     * If the map previously contained a mapping for the key, the old value is
+     * replaced.
+     *
+     * @param key   the key with which the specified value is to be associated
+     * @param value the value to be associated with the specified key
+     * @throws IllegalArgumentException if the value is null
+     */
+    public void put(int key, String value) {
+        if (value == null)
+            throw new IllegalArgumentException("Value can't be null.");
+
+        var hash = mix(key);
+        segmentFor(hash).put(key, hash, value);
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped,
+     * or null if this map contains no mapping for the key.
+     * This method never locks.
+     *
+     * @param key the key whose associated value is to be returned
+     * @return the value to which the specified key is mapped, or null if this map
+     *         contains no mapping for the key
+     */
+    public String get(int key) {
+        var hash = mix(key);
+        return segmentFor(hash).get(key, hash);
+    }
+
+    /**
+     * Removes the mapping for a key from this map if it is present.
+     *
+     * @param key the key whose mapping is to be removed from the map
+     * @throws IllegalStateException if the specified key is not present in the map
+     */
+    public void remove(int key) {
+        var hash = mix(key);
+
+        if (!segmentFor(hash).remove(key, hash))
+            throw new IllegalStateException("Invalid key removal");
+    }
+
+    /**
+     * Returns the number of mappings in this map.
+     * While writers are active the result is only an estimate.
+     *
+     * @return the number of mappings
+     */
+    public int size() {
+        var size = 0;
+        for (var segment : segments)
+            size += segment.count;
+
+        return size;
+    }
+
+    /**
+     * Main method to test the StripedHashMap implementation with sample
+     * operations.
+     *
+     * @param args command line arguments (not used)
+     */
+    public static void main(String[] args) throws InterruptedException {
+        StripedHashMap map = new StripedHashMap();
+        map.put(6, "A");
+        map.put(8, "B");
+        map.put(-11, "C");
+        map.put(6, "A+");
+
+        System.out.println(map.get(6)); // Output: A+
+        System.out.println(map.get(10)); // Output: null
+
+        map.remove(6);
+
+        // Four writers fill disjoint key ranges at the same time
+        var threads = new Thread[4];
+        for (var t = 0; t < threads.length; t++) {
+            var base = t * 10_000;
+            threads[t] = new Thread(() -> {
+                for (var i = base; i < base + 10_000; i++)
+                    map.put(i, "V" + i);
+            });
+            threads[t].start();
+        }
+        for (var thread : threads)
+            thread.join();
+
+        System.out.println(map.size()); // Output: 40001
+        System.out.println(map.get(39_999)); // Output: V39999
+
+        // Attempt to remove a key that doesn't exist
+        try {
+            map.remove(-60);
+        } catch (IllegalStateException e) {
+            System.out.println(e.getMessage()); // Output: Invalid key removal
+        }
+    }
+}
@@ -0,0 +1,383 @@
+package DataStructuresAndAlgorithms;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * This class implements a timer queue as a hierarchical hashed timing wheel.
+ * Time is counted in ticks of any unit chosen by the caller. The lowest
+ * wheel has one slot per tick for the next 64 ticks; each wheel above covers
+ * 64 times the span of the one below with the same number of slots, so four
+ * wheels cover about 16.7 million ticks. A timer is linked into the slot of
+ * its deadline in constant time, and cancelling it unlinks it in constant
+ * time, where a heap such as {@link IndexedPriorityQueue} pays O(log n) for
+ * both. Each time the lowest wheel completes a turn, the next slot of the
+ * wheel above is emptied and its timers are spread over the wheel below.
+ * Every wheel keeps a bitmap of its occupied slots, so advancing the clock
+ * jumps straight over ticks where nothing fires or cascades.
+ *
+ * Each timer is a fixed-size record in one int array, so unlinking it
+ * touches one cache line per timer even when millions are pending. Records
+ * are linked through index-based lists and recycled through a free-list, so
+ * the wheel allocates nothing once its array has grown to the number of
+ * pending timers. A timer carries an int payload and is identified by a
+ * handle that stays unique after its record is recycled.
+ */
+public class TimingWheel {
+    private static final int WHEEL_BITS = 6; // log2 of the slots per wheel
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS; // Slots per wheel
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1; // Wraps a tick onto a slot
+    private static final int LEVELS = 4; // Number of wheels
+    private static final long MAX_SPAN = 1L << (WHEEL_BITS * LEVELS); // Ticks covered by all wheels
+    private static final int FIRING = LEVELS * WHEEL_SIZE; // List of timers being fired
+    private static final int NIL = -1; // End of a list
+    private static final int FREE = -1; // Slot of a timer that is not scheduled
+    private static final int DEFAULT_CAPACITY = 1024; // Timers held before the array first grows
+    private static final int NEXT = 0; // Record field: next timer in the same list
+    private static final int PREVIOUS = 1; // Record field: previous timer in the same list
+    private static final int SLOT = 2; // Record field: slot list holding the timer, or FREE
+    private static final int GENERATION = 3; // Record field: incremented each time the record is recycled
+    private static final int PAYLOAD = 4; // Record field: payload of the timer
+    private static final int DEADLINE_HIGH = 5; // Record field: high half of the deadline
+    private static final int DEADLINE_LOW = 6; // Record field: low half of the deadline
+    private static final int STRIDE = 8; // Ints per record, so two records share a cache line
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE / STRIDE; // Most timers the array can hold
+
+    private int[] records; // Timer records; a timer is the offset of its record
+    private final int[] heads = new int[FIRING + 1]; // First timer of each slot list
+    private final long[] occupied = new long[LEVELS]; // Bit i of a wheel is set if its slot i has timers
+    private int freeList = NIL; // First free timer
+    private int nextUnused; // Offset of the first record never handed out
+    private int size; // The number of scheduled timers
+    private long currentTick; // The last tick processed
+
+    /**
+     * Constructs an empty timing wheel whose clock starts at the given tick.
+     *
+     * @param now the current tick
+     */
+    public TimingWheel(long now) {
+        this(now, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty timing wheel whose clock starts at the given tick,
+     * able to hold the given number of timers before its arrays grow.
+     *
+     * @param now      the current tick
+     * @param capacity the number of pending timers expected
+     * @throws IllegalArgumentException if the capacity is negative or too
+     *                                  large
+     */
+    public TimingWheel(long now, int capacity) {
+        if (capacity < 0 || capacity > MAX_CAPACITY)
+            throw new IllegalArgumentException("Invalid capacity: " + capacity);
+
+        currentTick = now;
+        records = new int[capacity * STRIDE];
+        Arrays.fill(heads, NIL);
+    }
+
+    /**
+     * Schedules a timer - O(1). A deadline that has already passed fires on
+     * the next tick.
+     *
+     * @param payload  the value passed to the consumer when the timer fires
+     * @param deadline the tick at which the timer fires
+     * @return the handle of the timer, for cancelling it
+     * @throws IllegalStateException if the wheel can't grow any further
+     */
+    public long schedule(int payload, long deadline) {
+        var timer = allocate();
+        records[timer + DEADLINE_HIGH] = (int) (deadline >>> 32);
+        records[timer + DEADLINE_LOW] = (int) deadline;
+        records[timer + PAYLOAD] = payload;
+        place(timer, currentTick + 1);
+        size++;
+
+        return (long) records[timer + GENERATION] << 32 | timer;
+    }
+
+    /**
+     * Cancels a scheduled timer - O(1).
+     *
+     * @param handle the handle returned when the timer was scheduled
+     * @return true if the timer was cancelled, false if it had already fired
+     *         or been cancelled
+     */
+    public boolean cancel(long handle) {
+        var timer = (int) handle;
+        if (timer < 0 || timer >= nextUnused || timer % STRIDE != 0 || records[timer + SLOT] == FREE
+                || records[timer + GENERATION] != (int) (handle >>> 32))
+            return false;
+
+        unlink(timer);
+        release(timer);
+        size--;
+        return true;
+    }
+
+    /**
+     * Moves the clock forward to the given tick, firing every timer whose
+     * deadline is reached, tick by tick and in batches of one slot. The
+     * consumer may schedule and cancel timers; timers it schedules for the
+     * current tick or earlier fire on the next call.
+     *
+     * @param now      the new current tick
+     * @param consumer receives the payload of each fired timer
+     * @return the number of timers fired
+     */
+    public int advance(long now, IntConsumer consumer) {
+        var fired = 0;
+        while (currentTick < now) {
+            // Jump over the ticks where no slot fires or cascades
+            var tick = nextEventTick();
+            if (tick > now) {
+                currentTick = now;
+                break;
+            }
+
+            var index = (int) tick & WHEEL_MASK;
+
+            // Each completed turn of a wheel empties the next slot of the wheel above
+            for (var level = 1; index == 0 && level < LEVELS; level++) {
+                index = (int) (tick >>> (WHEEL_BITS * level)) & WHEEL_MASK;
+                cascade(level * WHEEL_SIZE + index, tick);
+            }
+
+            currentTick = tick;
+            moveToFiring((int) tick & WHEEL_MASK);
+            for (var timer = heads[FIRING]; timer != NIL; timer = heads[FIRING]) {
+                unlink(timer);
+                var payload = records[timer + PAYLOAD];
+                release(timer);
+                size--;
+                fired++;
+                consumer.accept(payload);
+            }
+        }
+
+        return fired;
+    }
+
+    /**
+     * Returns the number of scheduled timers.
+     *
+     * @return the number of timers
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the last tick the clock was advanced to.
+     *
+     * @return the current tick
+     */
+    public long currentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Returns the first tick after the current one at which an occupied slot
+     * is reached: a slot of the lowest wheel fires, or a slot of a higher
+     * wheel cascades.
+     *
+     * @return the next tick that has work to do, or Long.MAX_VALUE if every
+     *         wheel is empty
+     */
+    private long nextEventTick() {
+        var next = Long.MAX_VALUE;
+        for (var level = 0; level < LEVELS; level++) {
+            if (occupied[level] == 0)
+                continue;
+
+            // The first tick after the current one at which this wheel moves to a new slot
+            var shift = WHEEL_BITS * level;
+            var unit = 1L << shift;
+            var first = (currentTick | (unit - 1)) + 1;
+            var index = (int) (first >>> shift) & WHEEL_MASK;
+            var steps = Long.numberOfTrailingZeros(Long.rotateRight(occupied[level], index));
+            next = Math.min(next, first + steps * unit);
+        }
+
+        return next;
+    }
+
+    /**
+     * Moves every timer of a higher-wheel slot into the wheels below.
+     *
+     * @param slot the slot to empty
+     * @param base the tick about to be processed
+     */
+    private void cascade(int slot, long base) {
+        var timer = heads[slot];
+        heads[slot] = NIL;
+        occupied[slot >> WHEEL_BITS] &= ~(1L << (slot & WHEEL_MASK));
+
+        // No caller code runs here, so the detached list can be walked directly
+        while (timer != NIL) {
+            var after = records[timer + NEXT];
+            place(timer, base);
+            timer = after;
+        }
+    }
+
+    /**
+     * Links a timer into the slot for its deadline: the lowest wheel whose
+     * span reaches the deadline from the base tick. Deadlines beyond the span
+     * of every wheel wait in the top wheel and are placed again when their
+     * slot cascades.
+     *
+     * @param timer the timer to place
+     * @param base  the next tick to be processed
+     */
+    private void place(int timer, long base) {
+        var expires = Math.max(deadlineOf(timer), base);
+        var delta = expires - base;
+        if (delta >= MAX_SPAN) {
+            expires = base + MAX_SPAN - 1;
+            delta = MAX_SPAN - 1;
+        }
+
+        var level = 0;
+        while (delta >= 1L << (WHEEL_BITS * (level + 1)))
+            level++;
+
+        link(timer, level * WHEEL_SIZE + ((int) (expires >>> (WHEEL_BITS * level)) & WHEEL_MASK));
+    }
+
+    /**
+     * Moves the whole list of a slot onto the firing list, which is empty.
+     * The timers keep their slot, so cancelling one unlinks it from whichever
+     * list it heads.
+     *
+     * @param slot the slot to empty
+     */
+    private void moveToFiring(int slot) {
+        heads[FIRING] = heads[slot];
+        heads[slot] = NIL;
+        occupied[slot >> WHEEL_BITS] &= ~(1L << (slot & WHEEL_MASK));
+    }
+
+    /**
+     * Links a timer at the head of a slot list.
+     *
+     * @param timer the timer to link
+     * @param slot  the slot list
+     */
+    private void link(int timer, int slot) {
+        var head = heads[slot];
+        records[timer + NEXT] = head;
+        records[timer + PREVIOUS] = NIL;
+        if (head != NIL)
+            records[head + PREVIOUS] = timer;
+
+        heads[slot] = timer;
+        records[timer + SLOT] = slot;
+        occupied[slot >> WHEEL_BITS] |= 1L << (slot & WHEEL_MASK);
+    }
+
+    /**
+     * Unlinks a timer from its slot list.
+     *
+     * @param timer the timer to unlink
+     */
+    private void unlink(int timer) {
+        var before = records[timer + PREVIOUS];
+        var after = records[timer + NEXT];
+        var slot = records[timer + SLOT];
+        if (before != NIL)
+            records[before + NEXT] = after;
+        else if (heads[slot] == timer)
+            heads[slot] = after;
+        else
+            heads[FIRING] = after;
+        if (after != NIL)
+            records[after + PREVIOUS] = before;
+
+        if (heads[slot] == NIL)
+            occupied[slot >> WHEEL_BITS] &= ~(1L << (slot & WHEEL_MASK));
+    }
+
+    /**
+     * Returns an unused timer, reusing a released one if there is one and
+     * growing the arrays otherwise.
+     *
+     * @return the offset of the timer record
+     * @throws IllegalStateException if the array can't grow any further
+     */
+    private int allocate() {
+        if (freeList != NIL) {
+            var timer = freeList;
+            freeList = records[timer + NEXT];
+            return timer;
+        }
+
+        if (nextUnused == records.length)
+            grow();
+
+        var timer = nextUnused;
+        nextUnused += STRIDE;
+        return timer;
+    }
+
+    /**
+     * Puts a timer back on the free-list, invalidating its handle.
+     *
+     * @param timer the timer to release
+     */
+    private void release(int timer) {
+        records[timer + SLOT] = FREE;
+        records[timer + GENERATION]++;
+        records[timer + NEXT] = freeList;
+        freeList = timer;
+    }
+
+    /**
+     * Returns the deadline of a timer.
+     *
+     * @param timer the offset of the timer record
+     * @return the deadline, in ticks
+     */
+    private long deadlineOf(int timer) {
+        return (long) records[timer + DEADLINE_HIGH] << 32 | (records[timer + DEADLINE_LOW] & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Doubles the number of timer records.
+     *
+     * @throws IllegalStateException if the array can't grow any further
+     */
+    private void grow() {
+        var capacity = Math.min(Math.max(2L * records.length / STRIDE, DEFAULT_CAPACITY), MAX_CAPACITY);
+        if (capacity * STRIDE == records.length)
+            throw new IllegalStateException("Wheel is full.");
+
+        records = Arrays.copyOf(records, (int) capacity * STRIDE);
+    }
+
+    /**
+     * Main method to test the TimingWheel implementation.
+     *
+     * @param args command line arguments
+     */
+    public static void main(String[] args) {
+        var wheel = new TimingWheel(0);
+
+        wheel.schedule(1, 10);
+        var cancelled = wheel.schedule(2, 20);
+        wheel.schedule(3, 5_000); // Lands in the second wheel and cascades down
+        wheel.schedule(4, 20);
+
+        System.out.println(wheel.cancel(cancelled)); // Output: true
+        System.out.println(wheel.cancel(cancelled)); // Output: false
+
+        wheel.advance(15, System.out::println); // Output: 1
+        wheel.advance(100, System.out::println); // Output: 4
+        System.out.println(wheel.size()); // Output: 1
+
+        System.out.println(wheel.advance(10_000, System.out::println)); // Output: 3 1
+        System.out.println(wheel.currentTick()); // Output: 10000
+    }
+}
@@ -0,0 +1,180 @@
+package DataStructuresAndAlgorithms;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * This class selects the K highest values of a stream of ints.
+ * It keeps the best K values seen so far in a min-heap, so its lowest kept
+ * value sits at the root: once K values are held, any value not above the
+ * root is rejected with a single comparison, and a value above it replaces
+ * the root in O(log K). A stream of n values costs O(n log K) time and O(K)
+ * memory, with no allocation per value. Partial selections of separate
+ * stream segments can be merged, which lets parallel streams collect into it.
+ */
+public class TopK {
+    private final int[] heap; // The kept values: the children of i are at 2i + 1 and 2i + 2
+    private int count; // The number of values kept
+
+    /**
+     * Constructs an empty selector for the given number of values.
+     *
+     * @param k the number of highest values to keep
+     * @throws IllegalArgumentException if k is not positive
+     */
+    public TopK(int k) {
+        if (k <= 0)
+            throw new IllegalArgumentException("K must be positive.");
+
+        heap = new int[k];
+    }
+
+    /**
+     * Selects the K highest values of a stream, collecting parallel streams
+     * segment by segment and merging the partial selections.
+     *
+     * @param values the stream of values
+     * @param k      the number of highest values to keep
+     * @return the selector holding the K highest values
+     */
+    public static TopK of(IntStream values, int k) {
+        return values.collect(() -> new TopK(k), TopK::offer, TopK::merge);
+    }
+
+    /**
+     * Offers a value, keeping it if it is among the K highest so far.
+     *
+     * @param value the value to offer
+     */
+    public void offer(int value) {
+        if (count < heap.length) {
+            siftUp(count++, value);
+        } else if (value > heap[0]) {
+            siftDown(0, value);
+        }
+    }
+
+    /**
+     * Offers every value kept by another selector to this one.
+     * The other selector is left unchanged.
+     *
+     * @param other the selector to merge in
+     */
+    public void merge(TopK other) {
+        for (var i = 0; i < other.count; i++)
+            offer(other.heap[i]);
+    }
+
+    /**
+     * Returns the number of values kept: K, or fewer if fewer were offered.
+     *
+     * @return the number of values kept
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Returns the lowest of the kept values: the value an offer must beat
+     * once K values are kept.
+     *
+     * @return the lowest kept value
+     * @throws IllegalStateException if no value has been offered
+     */
+    public int threshold() {
+        if (count == 0)
+            throw new IllegalStateException("No values offered.");
+
+        return heap[0];
+    }
+
+    /**
+     * Returns the kept values, highest first.
+     *
+     * @return a new array of the kept values in descending order
+     */
+    public int[] toSortedArray() {
+        var sorted = Arrays.copyOf(heap, count);
+        Arrays.sort(sorted);
+
+        for (int i = 0, j = sorted.length - 1; i < j; i++, j--) {
+            var swap = sorted[i];
+            sorted[i] = sorted[j];
+            sorted[j] = swap;
+        }
+
+        return sorted;
+    }
+
+    /**
+     * Moves a value up from a hole towards the root until its parent is not
+     * larger, and stores it there.
+     *
+     * @param hole  the index the value starts at
+     * @param value the value being placed
+     */
+    private void siftUp(int hole, int value) {
+        while (hole > 0) {
+            var parent = (hole - 1) / 2;
+            if (heap[parent] <= value)
+                break;
+
+            heap[hole] = heap[parent];
+            hole = parent;
+        }
+
+        heap[hole] = value;
+    }
+
+    /**
+     * Moves a value down from a hole, swapping in its smaller child, until no
+     * child is smaller, and stores it there.
+     *
+     * @param hole  the index the value starts at
+     * @param value the value being placed
+     */
+    private void siftDown(int hole, int value) {
+        while (true) {
+            var child = 2 * hole + 1;
+            if (child >= count)
+                break;
+            if (child + 1 < count && heap[child + 1] < heap[child])
+                child++;
+            if (heap[child] >= value)
+                break;
+
+            heap[hole] = heap[child];
+            hole = child;
+        }
+
+        heap[hole] = value;
+    }
+
+    /**
+     * Returns a string representation of the kept values, highest first.
+     *
+     * @return a string representation of the selector
+     */
+    @Override
+    public String toString() {
+        return Arrays.toString(toSortedArray());
+    }
+
+    /**
+     * Main method to test the TopK implementation with sample operations.
+     *
+     * @param args command line arguments (not used)
+     */
+    public static void main(String[] args) {
+        var top = new TopK(3);
+        for (var value : new int[] { 5, 1, 9, 3, 7, 9, 2 })
+            top.offer(value);
+
+        System.out.println(top); // Output: [9, 9, 7]
+        System.out.println(top.threshold()); // Output: 7
+
+        // Each segment of the parallel stream keeps its own top 5, then they merge
+        var scores = IntStream.rangeClosed(1, 10_000_000).parallel().map(i -> i % 1_000_003);
+        System.out.println(TopK.of(scores, 5)); // Output: [1000002, 1000002, 1000002, 1000002, 1000002]
+    }
+}
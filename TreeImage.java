@@ -0,0 +1,343 @@
+package DataStructuresAndAlgorithms;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * This class gives read-only access to a binary search tree saved by
+ * {@link BinaryTree#writeTo(Path)} or {@link AVLTree#writeTo(Path)}, querying
+ * it directly in a memory-mapped file.
+ * Nodes are stored in pre-order, so a node's left child, if it has one, is
+ * the next record, and only the position of its right child has to be stored.
+ * Opening an image reads nothing but its header: no node objects are built,
+ * pages are loaded by the OS as the queries touch them, and processes opening
+ * the same file share them.
+ *
+ * File layout:
+ * <pre>
+ * header  | magic, version, node count, unused
+ * nodes   | node count * (int value, int pre-order index of the right child, 0 when none)
+ * bits    | one bit per node, set when the node has a left child, in longs
+ * </pre>
+ * A single mapping holds up to about 238 million nodes.
+ */
+public final class TreeImage implements Closeable {
+    private static final int MAGIC = 0x54524931; // "TRI1"
+    private static final int VERSION = 1; // Version of the file layout
+    private static final int HEADER_SIZE = 16; // Bytes reserved for the header
+    private static final int NODE_SIZE = 8; // Bytes per node: value and right child
+    private static final int MAX_NODES = (Integer.MAX_VALUE - HEADER_SIZE) / (NODE_SIZE + 1); // Nodes one mapping holds
+
+    // Header field offsets
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int COUNT_OFFSET = 8;
+
+    private final FileChannel channel; // The channel the file is mapped through
+    private final MappedByteBuffer buffer; // The mapped file
+    private final int size; // The number of nodes
+    private final int bitsOffset; // Position of the left-child bits
+
+    /**
+     * Constructs an image over a mapped file.
+     *
+     * @param channel the channel the file is mapped through
+     * @param buffer  the mapped file
+     * @param size    the number of nodes
+     */
+    private TreeImage(FileChannel channel, MappedByteBuffer buffer, int size) {
+        this.channel = channel;
+        this.buffer = buffer;
+        this.size = size;
+        this.bitsOffset = HEADER_SIZE + size * NODE_SIZE;
+    }
+
+    /**
+     * Maps a saved tree for querying.
+     *
+     * @param file the file the tree was saved to
+     * @return the image of the tree
+     * @throws IOException              if the file can't be opened or mapped
+     * @throws IllegalArgumentException if the file is not a tree image
+     */
+    public static TreeImage open(Path file) throws IOException {
+        var channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            var length = channel.size();
+            if (length < HEADER_SIZE || length > Integer.MAX_VALUE)
+                throw new IllegalArgumentException("Not a tree image: " + file);
+
+            var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+            var size = buffer.getInt(COUNT_OFFSET);
+            if (buffer.getInt(MAGIC_OFFSET) != MAGIC || buffer.getInt(VERSION_OFFSET) != VERSION || size < 0
+                    || size > MAX_NODES || length != fileSize(size))
+                throw new IllegalArgumentException("Not a tree image: " + file);
+
+            return new TreeImage(channel, buffer, size);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the length of an image holding the given number of nodes.
+     *
+     * @param size the number of nodes
+     * @return the length of the file in bytes
+     */
+    private static long fileSize(int size) {
+        return HEADER_SIZE + (long) size * NODE_SIZE + ((size + 63L) / 64) * Long.BYTES;
+    }
+
+    /**
+     * Returns the number of values in the tree.
+     *
+     * @return the number of values
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Searches for a value in the tree.
+     *
+     * @param value the value to search for
+     * @return true if the value is found, false otherwise
+     * @throws IllegalArgumentException if the image links are corrupt
+     */
+    public boolean contains(int value) {
+        var node = (size == 0) ? -1 : 0;
+        while (node >= 0) {
+            var nodeValue = valueOf(node);
+            if (value < nodeValue)
+                node = leftOf(node);
+            else if (value > nodeValue)
+                node = rightOf(node);
+            else
+                return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Passes every value between lo and hi (inclusive) to the consumer, in
+     * ascending order. The walk keeps its path on an explicit stack, so an
+     * unbalanced tree can't overflow the call stack.
+     *
+     * @param lo       the lower bound of the range
+     * @param hi       the upper bound of the range
+     * @param consumer the consumer of the values
+     * @throws IllegalArgumentException if the image links are corrupt
+     */
+    public void rangeScan(int lo, int hi, IntConsumer consumer) {
+        var stack = new int[64];
+        var top = 0;
+        var node = (size == 0) ? -1 : 0;
+
+        while (node >= 0 || top > 0) {
+            // Descend left, skipping nodes below the range and their left subtrees
+            while (node >= 0) {
+                if (lo <= valueOf(node)) {
+                    if (top == stack.length)
+                        stack = Arrays.copyOf(stack, top * 2);
+                    stack[top++] = node;
+                    node = leftOf(node);
+                } else {
+                    node = rightOf(node);
+                }
+            }
+            if (top == 0)
+                return;
+
+            node = stack[--top];
+            var value = valueOf(node);
+            if (value > hi)
+                return;
+
+            consumer.accept(value);
+            node = rightOf(node);
+        }
+    }
+
+    /**
+     * Closes the file. The mapping itself is released once the image is no
+     * longer referenced.
+     *
+     * @throws IOException if the file can't be closed
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Returns the value of a node.
+     *
+     * @param node the pre-order index of the node
+     * @return the value of the node
+     */
+    private int valueOf(int node) {
+        return buffer.getInt(HEADER_SIZE + node * NODE_SIZE);
+    }
+
+    /**
+     * Returns the left child of a node.
+     *
+     * @param node the pre-order index of the node
+     * @return the index of the left child, or -1 if there is none
+     * @throws IllegalArgumentException if the last node claims a left child
+     */
+    private int leftOf(int node) {
+        var bits = buffer.getLong(bitsOffset + (node >>> 6) * Long.BYTES);
+        if (((bits >>> node) & 1) == 0)
+            return -1;
+
+        if (node + 1 >= size)
+            throw new IllegalArgumentException("Corrupt tree image");
+
+        return node + 1;
+    }
+
+    /**
+     * Returns the right child of a node.
+     *
+     * @param node the pre-order index of the node
+     * @return the index of the right child, or -1 if there is none
+     * @throws IllegalArgumentException if the stored index is out of order or
+     *                                  out of range
+     */
+    private int rightOf(int node) {
+        var right = buffer.getInt(HEADER_SIZE + node * NODE_SIZE + 4);
+        if (right == 0)
+            return -1;
+
+        // In pre-order a right child always follows its parent inside the image
+        if (right <= node || right >= size)
+            throw new IllegalArgumentException("Corrupt tree image");
+
+        return right;
+    }
+
+    /**
+     * This class writes a tree image, one node at a time in pre-order.
+     * The right child of a node is only known after its left subtree has
+     * been written, so it is patched in through the mapped file.
+     */
+    static final class Writer implements Closeable {
+        private final FileChannel channel; // The channel the file is mapped through
+        private final MappedByteBuffer buffer; // The mapped file
+        private final int size; // The number of nodes to write
+        private final int bitsOffset; // Position of the left-child bits
+        private int written; // The number of nodes written so far
+
+        /**
+         * Creates or truncates the file and maps room for the given number of
+         * nodes.
+         *
+         * @param file the file to write to
+         * @param size the number of nodes the tree holds
+         * @throws IOException              if the file can't be created or mapped
+         * @throws IllegalArgumentException if the tree is too large for one image
+         */
+        Writer(Path file, int size) throws IOException {
+            if (size > MAX_NODES)
+                throw new IllegalArgumentException("Tree is too large for one image.");
+
+            this.size = size;
+            this.bitsOffset = HEADER_SIZE + size * NODE_SIZE;
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            try {
+                buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize(size));
+            } catch (IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+
+            buffer.putInt(MAGIC_OFFSET, MAGIC);
+            buffer.putInt(VERSION_OFFSET, VERSION);
+            buffer.putInt(COUNT_OFFSET, size);
+        }
+
+        /**
+         * Appends the next node in pre-order.
+         *
+         * @param value   the value of the node
+         * @param hasLeft true if the node has a left child
+         * @return the pre-order index of the node
+         * @throws IllegalStateException if every node has already been written
+         */
+        int add(int value, boolean hasLeft) {
+            if (written == size)
+                throw new IllegalStateException("Image is full.");
+
+            var node = written++;
+            buffer.putInt(HEADER_SIZE + node * NODE_SIZE, value);
+            if (hasLeft) {
+                var position = bitsOffset + (node >>> 6) * Long.BYTES;
+                buffer.putLong(position, buffer.getLong(position) | (1L << node));
+            }
+
+            return node;
+        }
+
+        /**
+         * Records the right child of a node written earlier.
+         *
+         * @param node  the pre-order index of the parent
+         * @param right the pre-order index of its right child
+         */
+        void setRight(int node, int right) {
+            buffer.putInt(HEADER_SIZE + node * NODE_SIZE + 4, right);
+        }
+
+        /**
+         * Forces the image to disk and closes the file.
+         *
+         * @throws IOException           if the file can't be written or closed
+         * @throws IllegalStateException if fewer nodes were written than declared
+         */
+        @Override
+        public void close() throws IOException {
+            try {
+                if (written != size)
+                    throw new IllegalStateException("Image is incomplete.");
+                buffer.force();
+            } finally {
+                channel.close();
+            }
+        }
+    }
+
+    /**
+     * Main method to test the TreeImage implementation.
+     *
+     * @param args command line arguments
+     */
+    public static void main(String[] args) throws IOException {
+        var file = Files.createTempFile("tree", ".img");
+
+        var tree = new AVLTree();
+        for (var i = 1; i <= 1_000; i++)
+            tree.insert(i * 10);
+        tree.writeTo(file);
+
+        try (var image = TreeImage.open(file)) {
+            System.out.println(image.size()); // Output: 1000
+            System.out.println(image.contains(500)); // Output: true
+            System.out.println(image.contains(505)); // Output: false
+            image.rangeScan(4_975, 5_030, System.out::println); // Output: 4980 4990 5000 5010 5020 5030
+        }
+
+        Files.delete(file);
+    }
+}